@@ -0,0 +1,53 @@
+package my_board.demo.dto;
+
+import my_board.demo.domain.Member;
+import my_board.demo.domain.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Post 엔티티 -> PostResponseDto 변환 비용 (목록 20건 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseDtoBenchmark {
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .loginId("bench")
+                .password("")
+                .nickname("벤치유저")
+                .build();
+        posts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            posts.add(Post.builder()
+                    .title("게시글 제목 " + i)
+                    .content("게시글 내용입니다. ".repeat(50))
+                    .member(member)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public PostResponseDto mapSingle() {
+        return new PostResponseDto(posts.get(0));
+    }
+
+    @Benchmark
+    public List<PostResponseDto> mapPage() {
+        List<PostResponseDto> result = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            result.add(new PostResponseDto(post));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package my_board.demo.security;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 측정
+ * - doubleParse: 기존 필터 방식 (validateToken -> getAuthentication, 토큰을 두 번 파싱/검증)
+ * - singleParse: 한 번만 파싱 (검증 캐시 끔)
+ * - filterCached: 실제 필터 + 검증 캐시 (같은 세션의 반복 요청)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    static final String SECRET = "V2hhdGlzWW91ck5hbWUhMyMjMjMyREVWRUxPUEVSX0tFWV9GT1JfSldUX1RPS0VOR0VORVJBVElPTg==";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtAuthenticationFilter cachedFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtTokenProvider(SECRET, 0);
+        JwtTokenProvider cachedProvider = new JwtTokenProvider(SECRET, 10_000);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        LoginMember member = new LoginMember(1L, "bench", "", "벤치유저", authorities);
+        token = uncachedProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(member, null, authorities)).getAccessToken();
+    }
+
+    @Benchmark
+    public void doubleParse(Blackhole bh) {
+        if (uncachedProvider.validateToken(token)) {
+            bh.consume(uncachedProvider.getAuthentication(token));
+        }
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        return uncachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setCookies(new Cookie("accessToken", token));
+        cachedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,50 @@
+package my_board.demo.security;
+
+import my_board.demo.dto.TokenInfo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 단위 연산 비용 (토큰 생성 / 검증 / 인증 정보 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    private JwtTokenProvider provider;
+    private Authentication loginAuthentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(JwtAuthenticationFilterBenchmark.SECRET, 0); // 검증 캐시 없이 순수 비용 측정
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        LoginMember member = new LoginMember(1L, "bench", "", "벤치유저", authorities);
+        loginAuthentication = new UsernamePasswordAuthenticationToken(member, null, authorities);
+        token = provider.generateToken(loginAuthentication).getAccessToken();
+    }
+
+    @Benchmark
+    public TokenInfo generateToken() {
+        return provider.generateToken(loginAuthentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(token);
+    }
+}
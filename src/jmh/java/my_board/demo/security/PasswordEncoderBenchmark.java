@@ -0,0 +1,41 @@
+package my_board.demo.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityConfig.passwordEncoder()가 감싸는 DelegatingPasswordEncoder(bcrypt) 비용
+ * 회원가입(encode)과 로그인(matches) 한 번에 드는 CPU 시간 (cost별 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = SecurityConfig.createDelegatingPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password1234", encodedPassword);
+    }
+}
@@ -0,0 +1,94 @@
+package my_board.demo.service;
+
+import my_board.demo.DemoApplication;
+import my_board.demo.domain.Member;
+import my_board.demo.dto.PostSaveRequestDto;
+import my_board.demo.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성 처리량 (PostService.save 단건 / PostService.saveAll 100건)
+ * batchSize=1은 JDBC 배치를 끈 상태, 50은 기본 설정 (application.properties)
+ * IDENTITY 방식과 비교하려면 id 전환 이전 커밋에 이 파일을 복사해서 saveSingle을 실행 (saveAll은 이 커밋에서 추가됨)
+ * (IDENTITY에서는 batchSize와 상관없이 INSERT가 한 건씩 바로 실행됨)
+ *
+ * 기본은 H2 인메모리(PostgreSQL 모드). 네트워크 왕복까지 보려면 실제 DB를 지정:
+ *   BENCH_DB_URL=jdbc:postgresql://localhost:5432/bench BENCH_DB_USER=postgres BENCH_DB_PASSWORD=1234 ./gradlew jmh -PjmhIncludes=PostSaveBenchmark
+ * (글이 계속 쌓이므로 벤치마크 전용 DB를 사용할 것, 스키마는 Flyway가 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 5) // 앱 전체(Hibernate, H2)가 JIT될 때까지 처리량이 수십 배 오르므로 길게
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSaveBenchmark {
+    private static final String LOGIN_ID = "bench_writer";
+    private static final int BULK_SIZE = 100;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private List<PostSaveRequestDto> bulkRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--post.search.engine=like",
+                "--logging.level.root=WARN"));
+        String url = System.getenv("BENCH_DB_URL");
+        if (url != null) {
+            args.add("--spring.datasource.url=" + url);
+            args.add("--spring.datasource.username=" + System.getenv().getOrDefault("BENCH_DB_USER", "postgres"));
+            args.add("--spring.datasource.password=" + System.getenv().getOrDefault("BENCH_DB_PASSWORD", ""));
+        } else {
+            args.add("--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+        }
+        context = SpringApplication.run(DemoApplication.class, args.toArray(new String[0]));
+        postService = context.getBean(PostService.class);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        if (memberRepository.findByLoginId(LOGIN_ID).isEmpty()) {
+            memberRepository.save(Member.builder()
+                    .loginId(LOGIN_ID)
+                    .password("bench")
+                    .nickname("벤치마크")
+                    .build());
+        }
+
+        bulkRequests = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            bulkRequests.add(new PostSaveRequestDto("벤치마크 게시글 " + i, "본문 ".repeat(50)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long saveSingle() {
+        return postService.save(bulkRequests.get(0), LOGIN_ID);
+    }
+
+    // 결과는 글 1개 기준 처리량 (한 번에 100개)
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public List<Long> saveBulk() {
+        return postService.saveAll(bulkRequests, LOGIN_ID);
+    }
+}
@@ -0,0 +1,114 @@
+package my_board.demo.view;
+
+import my_board.demo.dto.PageNavigation;
+import my_board.demo.dto.PostSummaryDto;
+import my_board.demo.security.LoginMember;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * posts/postList 템플릿 렌더링 비용 (한 페이지 20건 / 100건, 전체 1쪽 / 10000쪽 중 가운데 페이지)
+ * - render: 캐시 miss (목록 조각 posts/postListFragment + 페이지 전체)
+ * - renderWithCachedFragment: 로그인 사용자 요청 (캐시된 목록 조각에 헤더만 렌더링)
+ * 페이지 번호는 PageNavigation으로 현재 페이지 주변만 그리므로 전체 페이지 수가 늘어도 시간/크기가 거의 같아야 함
+ * (응답 크기는 PostListFragmentSizeTest에서 확인)
+ * 실제 앱과 같은 SpringTemplateEngine + 클래스패스 templates/ 를 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostListRenderBenchmark {
+
+    @Param({"20", "100"})
+    public int rows;
+
+    @Param({"1", "10000"})
+    public int totalPages;
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication application;
+    private MockServletContext servletContext;
+    private Map<String, Object> fragmentVariables;
+    private String cachedFragment;
+
+    @Setup
+    public void setUp() {
+        templateEngine = createTemplateEngine();
+        servletContext = new MockServletContext();
+        application = JakartaServletWebApplication.buildApplication(servletContext);
+
+        List<PostSummaryDto> content = new ArrayList<>(rows);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < rows; i++) {
+            long id = 100_000L - i;
+            content.add(new PostSummaryDto(id, "게시글 제목 " + id, "작성자" + (i % 10), now.minusMinutes(i)));
+        }
+
+        PageImpl<PostSummaryDto> postPage = new PageImpl<>(content,
+                PageRequest.of(totalPages / 2, rows, Sort.by(Sort.Direction.DESC, "id")), (long) totalPages * rows);
+        fragmentVariables = new HashMap<>();
+        fragmentVariables.put("postPage", postPage);
+        fragmentVariables.put("pageNav", PageNavigation.of(postPage, 2));
+        cachedFragment = process("posts/postListFragment", fragmentVariables);
+    }
+
+    @Benchmark
+    public String render() {
+        return process("posts/postList", pageVariables(null, process("posts/postListFragment", fragmentVariables)));
+    }
+
+    @Benchmark
+    public String renderWithCachedFragment() {
+        return process("posts/postList", pageVariables(new LoginMember(1L, "bench", "", "벤치", List.of()),
+                cachedFragment));
+    }
+
+    private String process(String template, Map<String, Object> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/posts");
+        WebContext context = new WebContext(
+                application.buildExchange(request, new MockHttpServletResponse()), Locale.KOREA, variables);
+        return templateEngine.process(template, context);
+    }
+
+    private static Map<String, Object> pageVariables(LoginMember loginMember, String listFragment) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("loginMember", loginMember);
+        variables.put("listFragment", listFragment);
+        return variables;
+    }
+
+    // Spring Boot 자동 설정과 같은 조건(templates/*.html, UTF-8, 캐시 사용)으로 엔진 생성
+    static SpringTemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
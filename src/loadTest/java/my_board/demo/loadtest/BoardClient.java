@@ -0,0 +1,126 @@
+package my_board.demo.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시판 HTTP 클라이언트 (가상 사용자 1명 = BoardClient 1개, accessToken 쿠키를 들고 다님)
+ * 브라우저처럼 폼(application/x-www-form-urlencoded)으로 요청하고 리다이렉트는 따라가지 않음
+ */
+class BoardClient {
+    private static final Pattern VERSION_INPUT = Pattern.compile("name=\"version\"\\s+value=\"(\\d+)\"");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Map<Long, Long> postVersions = new HashMap<>(); // 수정할 때 보낼 글 버전 (시드 데이터는 0부터 시작)
+    private String accessToken;
+
+    BoardClient(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    // POST /members/login -> 성공 시 Set-Cookie: accessToken
+    boolean login(String loginId, String password) throws IOException, InterruptedException {
+        HttpResponse<Void> response = send(post("/members/login", Map.of("loginId", loginId, "password", password)),
+                HttpResponse.BodyHandlers.discarding());
+        for (String cookie : response.headers().allValues("set-cookie")) {
+            if (cookie.startsWith("accessToken=")) {
+                int end = cookie.indexOf(';');
+                accessToken = cookie.substring("accessToken=".length(), end < 0 ? cookie.length() : end);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // GET /posts?page=
+    boolean listPosts(int page) throws IOException, InterruptedException {
+        return isOk(send(get("/posts?page=" + page), HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    // GET /posts/{id}
+    boolean postDetail(long id) throws IOException, InterruptedException {
+        return isOk(send(get("/posts/" + id), HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    // GET /posts/search?q=
+    boolean search(String query) throws IOException, InterruptedException {
+        return isOk(send(get("/posts/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8)),
+                HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    // POST /posts/add -> 성공 시 /posts 로 리다이렉트
+    boolean createPost(String title, String content) throws IOException, InterruptedException {
+        HttpResponse<Void> response = send(post("/posts/add", Map.of("title", title, "content", content)),
+                HttpResponse.BodyHandlers.discarding());
+        return isRedirectWithoutError(response);
+    }
+
+    // POST /posts/{id}/edit -> 성공 시 /posts/{id} 로 리다이렉트
+    // 같은 회원으로 로그인한 다른 가상 사용자가 먼저 고쳤으면 error=conflict -> 수정 폼에서 버전을 다시 읽어 둠
+    boolean editPost(long id, String title, String content) throws IOException, InterruptedException {
+        long version = postVersions.getOrDefault(id, 0L);
+        HttpResponse<Void> response = send(post("/posts/" + id + "/edit",
+                        Map.of("title", title, "content", content, "version", String.valueOf(version))),
+                HttpResponse.BodyHandlers.discarding());
+        boolean success = isRedirectWithoutError(response)
+                && response.headers().firstValue("location").map(l -> l.endsWith("/posts/" + id)).orElse(false);
+        if (success) {
+            postVersions.put(id, version + 1);
+        } else if (response.headers().firstValue("location").orElse("").contains("error=conflict")) {
+            refreshVersion(id);
+        }
+        return success;
+    }
+
+    // GET /posts/{id}/edit 의 hidden version 값
+    private void refreshVersion(long id) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(get("/posts/" + id + "/edit"), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = VERSION_INPUT.matcher(response.body());
+        if (isOk(response) && matcher.find()) {
+            postVersions.put(id, Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return withCookie(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        form.forEach((name, value) -> body.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return withCookie(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+    }
+
+    private HttpRequest.Builder withCookie(HttpRequest.Builder builder) {
+        return (accessToken != null) ? builder.header("Cookie", "accessToken=" + accessToken) : builder;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder builder, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return httpClient.send(builder.build(), handler);
+    }
+
+    private static boolean isOk(HttpResponse<?> response) {
+        return response.statusCode() == 200;
+    }
+
+    private static boolean isRedirectWithoutError(HttpResponse<?> response) {
+        return response.statusCode() == 302
+                && !response.headers().firstValue("location").orElse("").contains("error");
+    }
+}
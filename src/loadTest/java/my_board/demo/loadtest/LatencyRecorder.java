@@ -0,0 +1,74 @@
+package my_board.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간(나노초) 기록
+ * 워커 스레드마다 하나씩 만들어 락 없이 기록하고, 측정이 끝난 뒤 merge로 합침
+ */
+class LatencyRecorder {
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        Samples s = samples.computeIfAbsent(endpoint, k -> new Samples());
+        if (success) {
+            s.add(nanos);
+        } else {
+            s.errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, s) -> {
+            Samples target = samples.computeIfAbsent(endpoint, k -> new Samples());
+            for (int i = 0; i < s.size; i++) {
+                target.add(s.values[i]);
+            }
+            target.errors += s.errors;
+        });
+    }
+
+    Map<String, EndpointReport> report(double measuredSeconds) {
+        Map<String, EndpointReport> result = new LinkedHashMap<>();
+        samples.forEach((endpoint, s) -> {
+            long[] sorted = Arrays.copyOf(s.values, s.size);
+            Arrays.sort(sorted);
+            result.put(endpoint, new EndpointReport(
+                    s.size,
+                    s.errors,
+                    s.size / measuredSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0));
+        });
+        return result;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static class Samples {
+        long[] values = new long[1024];
+        int size;
+        long errors;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    record EndpointReport(long requests, long errors, double throughputPerSecond,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
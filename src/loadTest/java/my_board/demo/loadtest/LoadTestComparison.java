@@ -0,0 +1,45 @@
+package my_board.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * 두 부하 테스트 결과(JSON)를 엔드포인트별로 나란히 비교 (./gradlew loadTestCompare)
+ * args: <기준 결과.json> <비교 결과.json>
+ */
+public class LoadTestComparison {
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode base = objectMapper.readTree(new File(args[0]));
+        JsonNode target = objectMapper.readTree(new File(args[1]));
+
+        String baseLabel = base.path("label").asText();
+        String targetLabel = target.path("label").asText();
+        System.out.printf("%n%-28s %-10s %12s %12s %12s%n", "endpoint", "metric", baseLabel, targetLabel, "change");
+
+        for (Map.Entry<String, JsonNode> entry : base.path("endpoints").properties()) {
+            JsonNode other = target.path("endpoints").path(entry.getKey());
+            for (String metric : new String[]{"throughputPerSecond", "p50Millis", "p95Millis", "p99Millis", "errors"}) {
+                double before = entry.getValue().path(metric).asDouble();
+                double after = other.path(metric).asDouble();
+                String change = (before == 0) ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+                System.out.printf("%-28s %-10s %12.2f %12.2f %12s%n",
+                        entry.getKey(), shortName(metric), before, after, change);
+            }
+        }
+    }
+
+    private static String shortName(String metric) {
+        return switch (metric) {
+            case "throughputPerSecond" -> "req/s";
+            case "p50Millis" -> "p50(ms)";
+            case "p95Millis" -> "p95(ms)";
+            case "p99Millis" -> "p99(ms)";
+            default -> metric;
+        };
+    }
+}
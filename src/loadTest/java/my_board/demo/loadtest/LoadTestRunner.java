@@ -0,0 +1,162 @@
+package my_board.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my_board.demo.DemoApplication;
+import my_board.demo.loadtest.LatencyRecorder.EndpointReport;
+import my_board.demo.loadtest.LoadTestSeeder.SeedData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ * 1. 앱을 loadtest 프로파일(H2)로 임의 포트에 부팅
+ * 2. 회원 N명, 게시글 M개 시드
+ * 3. 가상 사용자(concurrency)마다 로그인 후 목록/상세/작성/수정/로그인 트래픽을 정해진 비율로 재생
+ *    (scenario=search: 검색만 - 드물게 맞는 검색어(글 번호) / 모든 글에 맞는 검색어를 반씩)
+ * 4. 엔드포인트별 처리량과 p50/p95/p99를 콘솔과 build/reports/loadtest/<label>.json 에 기록
+ */
+public class LoadTestRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    // 트래픽 비율 (%): 읽기 위주의 실제 게시판 패턴
+    private static final int LIST_WEIGHT = 45;
+    private static final int DETAIL_WEIGHT = 35;
+    private static final int CREATE_WEIGHT = 7;
+    private static final int EDIT_WEIGHT = 8;
+    // 나머지 5%는 로그인
+
+    // 검색 시나리오에서 모든 글 제목에 들어 있는 단어 (시드 제목: "부하 테스트 게시글 {번호}")
+    private static final String COMMON_SEARCH_TERM = "게시글";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        try (ConfigurableApplicationContext context = application.run("--server.port=0")) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            log.info("시드 데이터 생성: members={}, posts={}", settings.members(), settings.posts());
+            SeedData seed = new LoadTestSeeder(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class))
+                    .seed(settings.members(), settings.posts());
+
+            Map<String, EndpointReport> report = run(settings, seed, "http://localhost:" + port);
+            print(settings, report);
+            write(settings, report);
+        }
+    }
+
+    private static Map<String, EndpointReport> run(LoadTestSettings settings, SeedData seed, String baseUrl) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(settings.durationSeconds()).toNanos();
+        int pageCount = Math.max(1, settings.posts() / 20);
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        List<Future<LatencyRecorder>> futures = new ArrayList<>();
+        for (int w = 0; w < settings.concurrency(); w++) {
+            int memberIndex = w % seed.memberCount();
+            futures.add(workers.submit(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                BoardClient client = new BoardClient(httpClient, baseUrl);
+                String loginId = LoadTestSeeder.loginId(memberIndex);
+                client.login(loginId, LoadTestSeeder.PASSWORD);
+                List<Long> ownedPosts = seed.ownedPostIds().get(memberIndex);
+
+                while (System.nanoTime() < deadline) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int dice = random.nextInt(100);
+                    String endpoint;
+                    boolean success;
+                    long begin = System.nanoTime();
+                    try {
+                        if ("search".equals(settings.scenario())) {
+                            endpoint = "PostController.searchPosts";
+                            String query = random.nextBoolean()
+                                    ? String.valueOf(random.nextInt(settings.posts())) : COMMON_SEARCH_TERM;
+                            success = client.search(query);
+                        } else if (dice < LIST_WEIGHT) {
+                            endpoint = "PostController.listPosts";
+                            // 대부분은 첫 페이지, 일부는 깊은 페이지
+                            int page = random.nextInt(2) == 0 ? 0 : random.nextInt(pageCount);
+                            success = client.listPosts(page);
+                        } else if (dice < LIST_WEIGHT + DETAIL_WEIGHT) {
+                            endpoint = "PostController.postDetail";
+                            success = client.postDetail(random.nextLong(seed.minPostId(), seed.maxPostId() + 1));
+                        } else if (dice < LIST_WEIGHT + DETAIL_WEIGHT + CREATE_WEIGHT) {
+                            endpoint = "PostController.savePost";
+                            success = client.createPost("부하 테스트 새 글", "새 글 본문 " + begin);
+                        } else if (dice < LIST_WEIGHT + DETAIL_WEIGHT + CREATE_WEIGHT + EDIT_WEIGHT && !ownedPosts.isEmpty()) {
+                            endpoint = "PostController.updatePost";
+                            long id = ownedPosts.get(random.nextInt(ownedPosts.size()));
+                            success = client.editPost(id, "수정된 제목 " + begin, "수정된 본문 " + begin);
+                        } else {
+                            endpoint = "MemberController.login";
+                            success = client.login(loginId, LoadTestSeeder.PASSWORD);
+                        }
+                    } catch (Exception e) {
+                        endpoint = "error";
+                        success = false;
+                    }
+                    long end = System.nanoTime();
+                    if (begin >= measureFrom && end <= deadline) {
+                        recorder.record(endpoint, end - begin, success);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : futures) {
+            total.merge(future.get());
+        }
+        workers.shutdown();
+        return total.report(settings.durationSeconds());
+    }
+
+    private static void print(LoadTestSettings settings, Map<String, EndpointReport> report) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n[loadTest:%s] scenario=%s, posts=%d, concurrency=%d, duration=%ds%n",
+                settings.label(), settings.scenario(), settings.posts(), settings.concurrency(), settings.durationSeconds()));
+        sb.append(String.format("%-28s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        report.forEach((endpoint, r) -> sb.append(String.format("%-28s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, r.requests(), r.errors(), r.throughputPerSecond(),
+                r.p50Millis(), r.p95Millis(), r.p99Millis(), r.maxMillis())));
+        log.info(sb.toString());
+    }
+
+    private static void write(LoadTestSettings settings, Map<String, EndpointReport> report) throws Exception {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("label", settings.label());
+        json.put("settings", settings);
+        json.put("endpoints", report);
+
+        File file = new File(settings.reportDir(), settings.label() + ".json");
+        file.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, json);
+        log.info("결과 저장: {}", file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,101 @@
+package my_board.demo.loadtest;
+
+import my_board.demo.domain.Member;
+import my_board.demo.domain.Post;
+import my_board.demo.repository.SequenceIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 회원/게시글 시드 데이터 생성
+ * 화면(HTTP)을 거치지 않고 JDBC 배치로 바로 넣어서 수십만 건도 빠르게 준비
+ */
+class LoadTestSeeder {
+    static final String PASSWORD = "loadtest1234";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int OWNED_POSTS_PER_MEMBER = 20; // 수정 트래픽에 사용할 회원별 본인 글 수
+    private static final String POST_INSERT_SQL =
+            "INSERT INTO post (id, title, content, member_id, created_date, modified_date) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String MEMBER_INSERT_SQL =
+            "INSERT INTO member (id, login_id, password, nickname) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    SeedData seed(int memberCount, int postCount) {
+        // id는 엔티티와 같은 시퀀스에서 발급 (부하 테스트 중 JPA로 만드는 글/회원과 겹치지 않도록)
+        SequenceIdAllocator memberIdAllocator = new SequenceIdAllocator(jdbcTemplate, Member.ID_SEQUENCE, Member.ID_ALLOCATION_SIZE);
+        SequenceIdAllocator postIdAllocator = new SequenceIdAllocator(jdbcTemplate, Post.ID_SEQUENCE, Post.ID_ALLOCATION_SIZE);
+
+        // 1. 회원 (bcrypt는 비싸므로 해시는 한 번만 만들어서 모든 회원이 공유)
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<Object[]> memberRows = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            memberRows.add(new Object[]{memberIdAllocator.nextId(), loginId(i), encodedPassword, "부하유저" + i});
+        }
+        batchInsert(MEMBER_INSERT_SQL, memberRows);
+
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT id FROM member WHERE login_id LIKE 'loadtest_%' ORDER BY id", Long.class);
+
+        // 2. 게시글 (작성자는 회원들에게 돌아가며 배정)
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        List<Object[]> postRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < postCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            postRows.add(new Object[]{postIdAllocator.nextId(), "부하 테스트 게시글 " + i, "본문 ".repeat(100) + i,
+                    memberIds.get(i % memberIds.size()), createdAt, createdAt});
+            if (postRows.size() == BATCH_SIZE) {
+                batchInsert(POST_INSERT_SQL, postRows);
+                postRows.clear();
+            }
+        }
+        batchInsert(POST_INSERT_SQL, postRows);
+
+        // 3. 상세 조회용 id 범위 + 수정 트래픽용 회원별 본인 글 목록
+        Long minId = jdbcTemplate.queryForObject("SELECT min(id) FROM post", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM post", Long.class);
+        Map<Long, List<Long>> ownedPosts = new HashMap<>();
+        jdbcTemplate.query("SELECT id, member_id FROM post ORDER BY id DESC", rs -> {
+            List<Long> owned = ownedPosts.computeIfAbsent(rs.getLong("member_id"), k -> new ArrayList<>());
+            if (owned.size() < OWNED_POSTS_PER_MEMBER) {
+                owned.add(rs.getLong("id"));
+            }
+        });
+
+        List<List<Long>> ownedByMemberIndex = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            ownedByMemberIndex.add(ownedPosts.getOrDefault(memberId, List.of()));
+        }
+        return new SeedData(memberIds.size(), minId == null ? 0 : minId, maxId == null ? 0 : maxId, ownedByMemberIndex);
+    }
+
+    static String loginId(int index) {
+        return "loadtest_" + index;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    /**
+     * 시드 결과
+     * @param ownedPostIds 회원 인덱스별 본인이 작성한 글 id (수정 요청에 사용)
+     */
+    record SeedData(int memberCount, long minPostId, long maxPostId, List<List<Long>> ownedPostIds) {
+    }
+}
@@ -0,0 +1,21 @@
+package my_board.demo.loadtest;
+
+/**
+ * 부하 테스트 설정 (System property: loadtest.*, Gradle에서는 -PloadTest.* 로 전달)
+ * scenario: mixed(목록/상세/작성/수정/로그인) / search(검색만)
+ */
+record LoadTestSettings(int members, int posts, int concurrency,
+                        int durationSeconds, int warmupSeconds, String label, String reportDir, String scenario) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.members", 200),
+                Integer.getInteger("loadtest.posts", 100_000),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.durationSeconds", 60),
+                Integer.getInteger("loadtest.warmupSeconds", 10),
+                System.getProperty("loadtest.label", "default"),
+                System.getProperty("loadtest.report", "build/reports/loadtest"),
+                System.getProperty("loadtest.scenario", "mixed"));
+    }
+}
@@ -3,8 +3,10 @@ package my_board.demo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // (!!) JPA Auditing 기능을 켭니다.
+@EnableScheduling // @Scheduled 주기 작업 (게시글 수 캐시 보정 등)
 @SpringBootApplication
 public class DemoApplication {
 	public static void main(String[] args) {
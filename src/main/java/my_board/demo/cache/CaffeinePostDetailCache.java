@@ -0,0 +1,60 @@
+package my_board.demo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import my_board.demo.dto.PostResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Caffeine(W-TinyLFU) 기반 로컬 메모리 캐시
+ * - 최대 개수(maximumSize)를 넘으면 자주 안 읽히는 글부터 제거
+ * - TTL(expireAfterWrite)이 지나면 다시 DB에서 읽음 (다른 서버에서 수정한 내용 반영용 안전장치)
+ * - hit/miss/eviction 통계는 cache.gets, cache.evictions 등으로 Prometheus에 노출
+ * - 항목마다 DB에서 읽기 시작한 시점을 같이 보관 (조회수 flush가 이미 반영된 값인지 구분)
+ */
+@Component
+@ConditionalOnProperty(name = "post.detail-cache.type", havingValue = "local", matchIfMissing = true)
+public class CaffeinePostDetailCache implements PostDetailCache {
+    private final Cache<Long, Entry> cache;
+
+    private record Entry(PostResponseDto post, long loadStartNanos) {
+    }
+
+    public CaffeinePostDetailCache(MeterRegistry meterRegistry,
+                                   @Value("${post.detail-cache.maximum-size:10000}") long maximumSize,
+                                   @Value("${post.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats() // 메트릭 수집을 위해 필요
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    @Override
+    public PostResponseDto get(Long id, Function<Long, PostResponseDto> loader) {
+        return cache.get(id, key -> {
+            long loadStartNanos = System.nanoTime();
+            return new Entry(loader.apply(key), loadStartNanos);
+        }).post();
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void addViews(Long id, long delta, long flushedNanos) {
+        cache.asMap().computeIfPresent(id, (key, entry) -> (entry.loadStartNanos() - flushedNanos < 0)
+                ? new Entry(entry.post().withViews(entry.post().getViews() + delta), entry.loadStartNanos())
+                : entry);
+    }
+}
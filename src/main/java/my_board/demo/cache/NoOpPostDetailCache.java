@@ -0,0 +1,31 @@
+package my_board.demo.cache;
+
+import my_board.demo.dto.PostResponseDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 캐시 끄기 (post.detail-cache.type=none): 항상 DB에서 읽음
+ * 캐시 유무에 따른 성능 비교나 장애 시 우회용
+ */
+@Component
+@ConditionalOnProperty(name = "post.detail-cache.type", havingValue = "none")
+public class NoOpPostDetailCache implements PostDetailCache {
+
+    @Override
+    public PostResponseDto get(Long id, Function<Long, PostResponseDto> loader) {
+        return loader.apply(id);
+    }
+
+    @Override
+    public void evict(Long id) {
+        // 저장하는 것이 없으므로 할 일 없음
+    }
+
+    @Override
+    public void addViews(Long id, long delta, long flushedNanos) {
+        // 저장하는 것이 없으므로 할 일 없음
+    }
+}
@@ -0,0 +1,23 @@
+package my_board.demo.cache;
+
+import my_board.demo.dto.PostResponseDto;
+
+import java.util.function.Function;
+
+/**
+ * 게시글 상세(PostResponseDto) 캐시
+ * 구현체를 갈아끼울 수 있도록 인터페이스로 분리 (지금은 로컬 메모리, 나중에 Redis 등 분산 캐시로 교체 가능)
+ * 설정: post.detail-cache.type = local(기본) / none
+ */
+public interface PostDetailCache {
+
+    // 캐시에 있으면 바로 반환, 없으면 loader로 DB에서 읽어와서 저장 후 반환 (Read-through)
+    PostResponseDto get(Long id, Function<Long, PostResponseDto> loader);
+
+    // 게시글 수정/삭제 시 호출
+    void evict(Long id);
+
+    // 조회수 flush 후 호출: 캐시된 DTO가 있으면 조회수만 delta만큼 올린 DTO로 교체 (없으면 아무것도 안 함)
+    // flushedNanos(System.nanoTime(), flush 커밋 직후) 이후에 DB에서 읽기 시작한 항목은 이미 delta가 들어 있으므로 그대로 둠
+    void addViews(Long id, long delta, long flushedNanos);
+}
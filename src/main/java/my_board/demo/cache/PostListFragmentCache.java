@@ -0,0 +1,71 @@
+package my_board.demo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 렌더링 결과 캐시 (UTF-8로 인코딩된 HTML 바이트)
+ * - key: 페이지 위치 (page/size 또는 커서), value: 렌더링할 때의 버전 + HTML
+ * - 버전(목록 버전 + 인기 글 스냅샷 버전)이 다르면 miss로 보고 다시 렌더링해서 덮어씀
+ *   (버전을 key에 넣지 않으므로 글이 바뀔 때마다 지난 버전 항목이 쌓이지 않음)
+ * - 최대 크기는 개수가 아니라 바이트(maximumWeight)로 제한
+ * - board.list.fragment.cache{result=hit|miss}, .bytes, .entries 로 적중률과 메모리 사용량 노출
+ */
+@Component
+public class PostListFragmentCache {
+    private final Cache<String, Fragment> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    private record Fragment(String version, byte[] html) {
+    }
+
+    public PostListFragmentCache(MeterRegistry meterRegistry,
+                                 @Value("${post.list.fragment-cache.maximum-bytes:16777216}") long maximumBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, Fragment fragment) -> key.length() * 2 + fragment.html().length)
+                .build();
+
+        this.hits = Counter.builder("board.list.fragment.cache")
+                .description("목록 렌더링 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.list.fragment.cache")
+                .description("목록 렌더링 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("board.list.fragment.cache.bytes", this, PostListFragmentCache::getWeightedBytes)
+                .description("캐시된 HTML의 대략적인 크기 (key + 바이트 배열)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("board.list.fragment.cache.entries", cache, c -> c.estimatedSize())
+                .description("캐시된 목록 조각 수")
+                .register(meterRegistry);
+    }
+
+    // 같은 버전으로 렌더링한 HTML이 있으면 그대로, 없으면 renderer로 만들어서 저장 후 반환
+    // (동시에 여러 요청이 miss면 각자 렌더링하고 마지막 것이 남음 -> 렌더링 중 다른 요청을 막지 않음)
+    public byte[] get(String key, String version, Supplier<byte[]> renderer) {
+        Fragment cached = cache.getIfPresent(key);
+        if (cached != null && cached.version().equals(version)) {
+            hits.increment();
+            return cached.html();
+        }
+        misses.increment();
+        byte[] html = renderer.get();
+        cache.put(key, new Fragment(version, html));
+        return html;
+    }
+
+    public long getWeightedBytes() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+}
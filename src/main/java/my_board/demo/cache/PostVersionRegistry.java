@@ -0,0 +1,68 @@
+package my_board.demo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 버전 맵 (HTTP 조건부 요청용 ETag / Last-Modified 계산)
+ * - 게시글: id -> 마지막 수정 시각(epoch ms), 상세 조회 때 채우고 수정 커밋 후 새 수정 시각으로 올림 (값은 줄어들지 않음)
+ *   -> 브라우저가 If-None-Match로 다시 물어볼 때 DB나 상세 캐시를 보지 않고 304를 결정
+ * - 목록: 글 작성/수정/삭제가 커밋될 때마다 1씩 올라가는 버전
+ *   이 프로세스 안에서만 의미가 있는 값(재시작하면 0부터, 서버마다 다름)이라 ETag에는 epoch(기동 시각)를 같이 넣음
+ * 값이 없으면(처음 보는 글, 용량 초과로 밀려남) 상세 조회 후 다시 채움
+ */
+@Component
+public class PostVersionRegistry {
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final Cache<Long, Long> postVersions;
+    private final AtomicLong listVersion = new AtomicLong();
+    // 기동 시각(36진수) - 재시작 전이나 다른 서버에서 받은 목록 ETag가 우연히 같은 번호로 맞지 않도록
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public PostVersionRegistry(@Value("${post.version-registry.maximum-size:100000}") long maximumSize) {
+        this.postVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    // 게시글 버전 (없거나 삭제된 글이면 null)
+    public Long getPostVersion(Long id) {
+        Long version = postVersions.getIfPresent(id);
+        return (version == null || version == DELETED) ? null : version;
+    }
+
+    // 지금 값보다 새로운 버전일 때만 반영
+    // (수정 커밋 전에 옛 행을 읽은 상세 조회가 커밋 후에 putPost를 해도 새 버전을 덮어쓰지 않음)
+    public void putPost(Long id, LocalDateTime modifiedDate) {
+        postVersions.asMap().merge(id, toVersion(modifiedDate), Math::max);
+    }
+
+    // 삭제된 글: 값을 지우지 않고 가장 큰 값으로 남겨 둠 (삭제 전에 읽은 조회가 옛 버전을 다시 채우지 않도록)
+    public void removePost(Long id) {
+        postVersions.put(id, DELETED);
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public long getListVersion() {
+        return listVersion.get();
+    }
+
+    public void listChanged() {
+        listVersion.incrementAndGet();
+    }
+
+    // 수정 시각(서버 시간대 기준 LocalDateTime)을 epoch ms로 (Last-Modified 헤더에도 그대로 사용)
+    public static long toVersion(LocalDateTime modifiedDate) {
+        return (modifiedDate != null) ? modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,64 @@
+package my_board.demo.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 빌릴 때 DbConcurrencyLimiter 허가를 받고, 커넥션을 닫을(반납할) 때 허가를 돌려주는 DataSource
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final DbConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedDataSource(DataSource target, DbConcurrencyLimiter limiter) {
+        super(target);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    // close()가 여러 번 호출되어도 허가는 한 번만 반납
+    private Connection releaseOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    boolean closing = "close".equals(method.getName()) && released.compareAndSet(false, true);
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (closing) {
+                            limiter.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package my_board.demo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 동시 접근 제한기
+ * 가상 스레드는 요청 수만큼 얼마든지 생기기 때문에, 커넥션 풀 앞에서 공정한(FIFO) 대기열로 동시 접근 수를 제한하고
+ * 정해진 시간 안에 차례가 오지 않으면 바로 실패시킴 (커넥션 풀에 수천 개 스레드가 몰려드는 것 방지)
+ */
+public class DbConcurrencyLimiter implements MeterBinder {
+    private final Semaphore semaphore;
+    private final int permits;
+    private final long acquireTimeoutMs;
+
+    public DbConcurrencyLimiter(int permits, long acquireTimeoutMs) {
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public void acquire() throws SQLException {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("DB 동시 접근 대기 시간 초과 (" + acquireTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 접근 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.db.limiter.waiting", semaphore, Semaphore::getQueueLength)
+                .description("DB 접근 차례를 기다리는 스레드 수")
+                .register(registry);
+        Gauge.builder("board.db.limiter.in-use", semaphore, s -> permits - s.availablePermits())
+                .description("DB 접근 중인 스레드 수")
+                .register(registry);
+    }
+}
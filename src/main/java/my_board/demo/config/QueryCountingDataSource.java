@@ -0,0 +1,106 @@
+package my_board.demo.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행을 QueryStats에 기록하는 DataSource
+ * Connection -> Statement -> ResultSet을 프록시로 감싸서 문장 실행 수/시간, 읽은 행 수를 셈
+ * (집계 범위가 열려 있지 않은 스레드에서는 시간 측정 없이 그대로 실행)
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(), Connection.class, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password), Connection.class, null);
+    }
+
+    // sql: PreparedStatement/CallableStatement를 만들 때 받은 SQL (일반 Statement는 execute 인자에서 꺼냄)
+    private static <T> T wrap(T target, Class<T> type, String sql) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> {
+                    // equals/hashCode는 프록시 자신 기준 (커넥션 홀더 비교 등)
+                    if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                        return self == args[0];
+                    }
+                    if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return System.identityHashCode(self);
+                    }
+                    return intercept(target, method, args, sql);
+                });
+        return type.cast(proxy);
+    }
+
+    private static Object intercept(Object target, Method method, Object[] args, String sql) throws Throwable {
+        String name = method.getName();
+
+        // 1. 문장 실행 (executeQuery, executeUpdate, executeBatch ...)
+        if (target instanceof Statement && name.startsWith("execute") && QueryStats.isActive()) {
+            String executed = (sql != null) ? sql
+                    : (args != null && args.length > 0 && args[0] instanceof String s) ? s : "batch";
+            long start = System.nanoTime();
+            try {
+                return wrapResult(invoke(target, method, args), sql);
+            } finally {
+                QueryStats.recordStatement(executed, System.nanoTime() - start);
+            }
+        }
+
+        // 2. 결과 행 읽기
+        if (target instanceof ResultSet && "next".equals(name) && QueryStats.isActive()) {
+            long start = System.nanoTime();
+            boolean hasRow = (Boolean) invoke(target, method, args);
+            QueryStats.recordFetchNanos(System.nanoTime() - start);
+            if (hasRow) {
+                QueryStats.recordRow();
+            }
+            return hasRow;
+        }
+
+        // 3. Statement 생성 / ResultSet 반환 메서드는 결과도 감쌈
+        Object result = invoke(target, method, args);
+        if (target instanceof Connection && result instanceof Statement) {
+            String prepared = (args != null && args.length > 0 && args[0] instanceof String s) ? s : null;
+            return wrapStatement((Statement) result, method.getReturnType(), prepared);
+        }
+        return wrapResult(result, sql);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object wrapStatement(Statement statement, Class<?> returnType, String sql) {
+        // createStatement -> Statement, prepareStatement -> PreparedStatement, prepareCall -> CallableStatement
+        return wrap(statement, (Class<Statement>) returnType, sql);
+    }
+
+    private static Object wrapResult(Object result, String sql) {
+        if (result instanceof ResultSet resultSet) {
+            return wrap(resultSet, ResultSet.class, sql);
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
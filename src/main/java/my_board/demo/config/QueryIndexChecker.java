@@ -0,0 +1,147 @@
+package my_board.demo.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PostRepository 쿼리의 인덱스 사용 여부 확인 (PostgreSQL)
+ * 쿼리마다 "enable_seqscan = off" 상태로 EXPLAIN을 실행해서, 그래도 테이블 전체 스캔(Seq Scan)이나
+ * 정렬(Sort)이 남아 있으면 그 쿼리에 맞는 인덱스가 없는 것으로 보고 경고
+ * (데이터가 적은 개발 DB에서도 플래너가 인덱스를 고를 수 있는지 확인할 수 있음 -> 운영 트래픽 없이 검증)
+ *
+ * PROBES는 PostRepository의 JPQL과 같은 SQL (대표 파라미터 값 포함, UPDATE/DELETE도 EXPLAIN만 하므로 실행되지 않음)
+ * -> PostRepository에 쿼리를 추가/변경하면 여기도 같이 수정 (빠진 메서드가 있으면 QueryIndexCheckerProbesTest가 실패)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.schema.index-check.enabled", havingValue = "true")
+public class QueryIndexChecker {
+    private static final String SUMMARY_SELECT =
+            "SELECT p.id, p.title, m.nickname, p.created_date FROM post p LEFT JOIN member m ON m.id = p.member_id ";
+
+    private static final String AUTHOR_SUMMARY_SELECT =
+            "SELECT p.id, p.title, p.created_date FROM post p WHERE p.member_id = 1 ";
+
+    static final List<QueryProbe> PROBES = List.of(
+            new QueryProbe("findAllWithMember",
+                    "SELECT p.*, m.* FROM post p LEFT JOIN member m ON m.id = p.member_id ORDER BY p.id DESC OFFSET 0 LIMIT 20"),
+            new QueryProbe("findByIdWithMember",
+                    "SELECT p.*, m.* FROM post p LEFT JOIN member m ON m.id = p.member_id WHERE p.id = 1"),
+            new QueryProbe("findSummaries",
+                    SUMMARY_SELECT + "ORDER BY p.id DESC OFFSET 200 LIMIT 20"),
+            new QueryProbe("findSummarySlice",
+                    SUMMARY_SELECT + "ORDER BY p.id DESC LIMIT 21"),
+            new QueryProbe("findSummarySliceBefore",
+                    SUMMARY_SELECT + "WHERE p.id < 1000 ORDER BY p.id DESC LIMIT 21"),
+            new QueryProbe("findSummarySliceAfter",
+                    SUMMARY_SELECT + "WHERE p.id > 1000 ORDER BY p.id ASC LIMIT 21"),
+            new QueryProbe("findSummariesByIdIn",
+                    SUMMARY_SELECT + "WHERE p.id IN (1, 2, 3)"),
+            new QueryProbe("findAuthorSummarySlice",
+                    AUTHOR_SUMMARY_SELECT + "ORDER BY p.id DESC LIMIT 21"),
+            new QueryProbe("findAuthorSummarySliceBefore",
+                    AUTHOR_SUMMARY_SELECT + "AND p.id < 1000 ORDER BY p.id DESC LIMIT 21"),
+            new QueryProbe("updateIfOwner",
+                    "UPDATE post SET title = 't', content = 'c', modified_date = now(), version = version + 1 " +
+                    "WHERE id = 1 AND member_id = 1 AND version = 0"),
+            new QueryProbe("deleteIfOwner",
+                    "DELETE FROM post WHERE id = 1 AND member_id = 1")
+    );
+
+    // 확인하지 않는 PostRepository 메서드
+    static final Set<String> EXCLUDED = Set.of(
+            "searchSummariesBefore" // LIKE '%검색어%'는 B-tree 인덱스를 쓸 수 없는 대체 검색 엔진용
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public QueryIndexChecker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    // 확인할 쿼리 (이름은 PostRepository 메서드 이름)
+    public record QueryProbe(String name, String sql) {
+    }
+
+    // 인덱스를 못 쓰는 쿼리 (problem 예: "Seq Scan on post")
+    public record Finding(String query, String problem) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        if (!isPostgres()) {
+            log.info("쿼리 인덱스 확인 건너뜀 (PostgreSQL 아님)");
+            return;
+        }
+        List<Finding> findings = check();
+        if (findings.isEmpty()) {
+            log.info("쿼리 인덱스 확인 완료: {}개 쿼리 모두 인덱스 사용", PROBES.size());
+        }
+        for (Finding finding : findings) {
+            log.warn("인덱스 없음: PostRepository.{} -> {}", finding.query(), finding.problem());
+        }
+    }
+
+    /**
+     * 모든 PROBES의 실행 계획 확인 (PostgreSQL 전용)
+     * SET LOCAL은 이 트랜잭션 안에서만 적용되고, 끝나면 롤백해서 아무것도 남기지 않음
+     */
+    public List<Finding> check() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            List<Finding> findings = new ArrayList<>();
+            for (QueryProbe probe : PROBES) {
+                String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + probe.sql(), String.class);
+                collectFindings(probe.name(), readPlan(plan), findings);
+            }
+            return findings;
+        });
+    }
+
+    private JsonNode readPlan(String json) {
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("EXPLAIN 결과를 읽지 못했습니다.", e);
+        }
+    }
+
+    // 실행 계획 트리를 돌면서 전체 스캔/정렬 노드를 찾음
+    private static void collectFindings(String query, JsonNode node, List<Finding> findings) {
+        String nodeType = node.path("Node Type").asText();
+        if ("Seq Scan".equals(nodeType)) {
+            findings.add(new Finding(query, "Seq Scan on " + node.path("Relation Name").asText()));
+        } else if ("Sort".equals(nodeType)) {
+            findings.add(new Finding(query, "Sort by " + node.path("Sort Key")));
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFindings(query, child, findings);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
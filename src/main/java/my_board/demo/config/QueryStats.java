@@ -0,0 +1,105 @@
+package my_board.demo.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 집계 (요청 단위 쿼리 예산 / N+1 감지)
+ * QueryCountingDataSource가 문장 실행, 행 읽기마다 여기에 기록하고, 열려 있는 모든 범위(Scope)에 더함
+ * -> 요청 인터셉터가 연 범위 안에서 테스트가 범위를 하나 더 열어도 양쪽 모두 집계됨
+ *
+ * 사용 예 (테스트):
+ *   try (QueryStats.Scope scope = QueryStats.open()) {
+ *       mockMvc.perform(get("/posts"));
+ *       assertThat(scope.getStatements()).isLessThanOrEqualTo(2);
+ *   }
+ */
+public final class QueryStats {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryStats() {
+    }
+
+    // 새 집계 범위 시작 (반드시 close()로 닫아야 함, 연 순서의 역순으로)
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordStatement(String sql, long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.jdbcNanos += elapsedNanos;
+            scope.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordRow() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows++;
+        }
+    }
+
+    static void recordFetchNanos(long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int statements;
+        private long rows;
+        private long jdbcNanos; // 문장 실행 + 결과 행 읽기(ResultSet.next)에 걸린 시간
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getJdbcNanos() {
+            return jdbcNanos;
+        }
+
+        // 같은 SQL이 threshold번 이상 실행된 것 (N+1 의심), 많이 실행된 순
+        public Map<String, Integer> getRepeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            executionsBySql.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        // 실패 메시지용 (SQL별 실행 횟수)
+        @Override
+        public String toString() {
+            return statements + " statements, " + rows + " rows " + getRepeatedStatements(1);
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package my_board.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 단위 쿼리 수/행 수/JDBC 시간 측정 (board.db.query-stats.enabled)
+ * - DataSource("dataSource" 빈)를 QueryCountingDataSource로 감싸서 SQL 실행을 셈
+ * - 컨트롤러 요청마다 QueryStatsInterceptor가 집계 범위를 열고, 끝나면 handler별 메트릭으로 기록
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.db.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+
+    public QueryStatsConfig(MeterRegistry meterRegistry,
+                            @Value("${board.db.query-stats.repeat-threshold:5}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static으로 등록
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatsInterceptor(meterRegistry, repeatThreshold));
+    }
+}
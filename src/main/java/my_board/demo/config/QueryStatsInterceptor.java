@@ -0,0 +1,107 @@
+package my_board.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청(컨트롤러 핸들러) 단위 DB 비용 기록
+ * 핸들러 실행 ~ 뷰 렌더링까지(템플릿에서 지연 로딩으로 나가는 쿼리 포함) 실행된 SQL 수, 읽은 행 수, JDBC 시간을
+ * handler 태그(예: PostController.listPosts)를 붙여 히스토그램으로 내보냄
+ * 같은 SQL이 한 요청에서 repeat-threshold번 이상 실행되면 N+1로 보고 경고 로그 + 카운터
+ */
+@Slf4j
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+    private static final String SCOPE_ATTRIBUTE = QueryStatsInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final Map<String, HandlerMeters> metersByHandler = new ConcurrentHashMap<>();
+
+    public QueryStatsInterceptor(MeterRegistry meterRegistry, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    private record HandlerMeters(DistributionSummary statements, DistributionSummary rows, Timer jdbcTime,
+                                 Counter repeated) {
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryStats.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryStats.Scope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+
+        String handlerName = handlerName((HandlerMethod) handler);
+        HandlerMeters meters = metersByHandler.computeIfAbsent(handlerName, this::createMeters);
+        meters.statements().record(scope.getStatements());
+        meters.rows().record(scope.getRows());
+        meters.jdbcTime().record(scope.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeated = scope.getRepeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            meters.repeated().increment();
+            log.warn("N+1 의심: {} -> 같은 SQL 반복 실행 {}", handlerName, repeated);
+        }
+    }
+
+    // 비동기 요청(StreamingResponseBody 등)은 요청 스레드가 먼저 반환되므로 여기서 범위를 닫음 (스레드 재사용 대비)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryStats.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+
+    // 부하 테스트 리포트와 같은 이름 형식 (PostController.listPosts)
+    static String handlerName(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+
+    private HandlerMeters createMeters(String handlerName) {
+        return new HandlerMeters(
+                DistributionSummary.builder("board.db.request.statements")
+                        .description("요청 하나에서 실행된 SQL 문장 수")
+                        .tag("handler", handlerName)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(1000.0)
+                        .register(meterRegistry),
+                DistributionSummary.builder("board.db.request.rows")
+                        .description("요청 하나에서 읽은 결과 행 수")
+                        .tag("handler", handlerName)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(100_000.0)
+                        .register(meterRegistry),
+                Timer.builder("board.db.request.time")
+                        .description("요청 하나의 JDBC 실행 + 결과 읽기 시간")
+                        .tag("handler", handlerName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("board.db.request.repeated")
+                        .description("같은 SQL이 반복 실행된(N+1 의심) 요청 수")
+                        .tag("handler", handlerName)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,67 @@
+package my_board.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (board.datasource.replica.enabled=true)
+ * - primary: spring.datasource.* / spring.datasource.hikari.* 그대로
+ * - 복제본: board.datasource.replica.urls의 URL마다 Hikari 풀 하나 (계정은 primary와 같음, 읽기 전용 커넥션)
+ * 이 설정이 켜지면 DataSource 빈을 직접 만들기 때문에 Spring Boot 기본 DataSource는 만들어지지 않음
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties, Environment environment,
+            @Value("${board.datasource.replica.urls}") String[] replicaUrls,
+            @Value("${board.datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${board.datasource.replica.read-your-writes-ms:5000}") long readYourWritesMs) {
+        // 1. primary: Boot 기본 DataSource와 같은 방식으로 만들고 spring.datasource.hikari.* 설정도 그대로 적용
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        // 2. 복제본
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, Duration.ofMillis(readYourWritesMs));
+    }
+
+    // JPA, JdbcTemplate, Flyway가 쓰는 DataSource
+    // 실제 커넥션은 첫 SQL 실행 때 빌리므로, 그 시점에는 트랜잭션의 readOnly 여부가 정해져 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("replicaRoutingDataSource") DataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,149 @@
+package my_board.demo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import my_board.demo.service.TransactionCallbacks;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 DataSource
+ * - @Transactional(readOnly = true) -> 복제본 (여러 개면 돌아가며 사용)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖의 호출, Flyway 등) -> primary
+ * - 복제 지연 대비: 쓰기 트랜잭션을 커밋한 사용자는 readYourWritesWindow 동안 읽기도 primary에서 처리
+ *   (글 수정 직후 상세/목록을 다시 볼 때 복제본에 아직 반영되지 않은 이전 내용이 보이는 것 방지)
+ * - 모든 사용자가 함께 보는 캐시를 채우는 조회는 readFromPrimary()로 감싸서 primary에서 읽음
+ *
+ * 커넥션을 빌리는 시점에 readOnly 여부가 정해져 있어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (JpaTransactionManager는 트랜잭션 시작 시 바로 커넥션을 빌리는데, 그때는 아직 readOnly 표시가 되기 전임)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, AutoCloseable {
+    static final String PRIMARY = "primary";
+
+    // readFromPrimary() 안에서 실행 중인지 (현재 스레드)
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<DataSource> targets = new ArrayList<>();
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    // 최근에 쓰기를 커밋한 사용자(loginId) -> 시간이 지나면 자동으로 빠짐
+    private final Cache<String, Boolean> recentWriters;
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration readYourWritesWindow) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("복제본 DataSource가 최소 1개 필요합니다.");
+        }
+        Map<Object, Object> lookup = new HashMap<>();
+        lookup.put(PRIMARY, primary);
+        targets.add(primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            lookup.put(key, replicas.get(i));
+            replicaKeys.add(key);
+            targets.add(replicas.get(i));
+        }
+        setTargetDataSources(lookup);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // 1. 쓰기 트랜잭션: primary + 커밋되면 이 사용자를 '최근 쓰기'로 기록
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                String writer = currentLoginId();
+                if (writer != null) {
+                    TransactionCallbacks.afterCommit(() -> recentWriters.put(writer, Boolean.TRUE));
+                }
+            }
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        // 2. 읽기 전용이지만 방금 직접 쓴 사용자 또는 공유 캐시를 채우는 조회: 복제 지연을 피해서 primary
+        String reader = currentLoginId();
+        if (FORCE_PRIMARY.get() != null || (reader != null && recentWriters.getIfPresent(reader) != null)) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        // 3. 그 외 읽기: 복제본을 돌아가며 사용
+        replicaRoutes.increment();
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * work 안의 읽기 전용 트랜잭션도 primary에서 실행
+     * 읽은 결과를 다른 사용자에게도 보여주는 캐시(렌더링된 목록 등)에 넣을 때 사용
+     * -> 쓰기 직후 복제본에 아직 반영되지 않은 옛 데이터가 새 버전으로 캐시되는 것 방지
+     * (복제본 라우팅이 꺼져 있으면 아무 영향 없음)
+     */
+    public static <T> T readFromPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    // 로그인한 사용자의 loginId (비로그인/스케줄 작업이면 null)
+    private static String currentLoginId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("board.db.route", primaryRoutes, LongAdder::sum)
+                .tag("target", "primary")
+                .description("커넥션을 primary로 보낸 횟수")
+                .register(registry);
+        FunctionCounter.builder("board.db.route", replicaRoutes, LongAdder::sum)
+                .tag("target", "replica")
+                .description("커넥션을 복제본으로 보낸 횟수")
+                .register(registry);
+    }
+
+    // 앱 종료 시 커넥션 풀 정리
+    @Override
+    public void close() throws Exception {
+        for (DataSource target : targets) {
+            if (target instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package my_board.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 요청 구간별 시간 측정 + 느린 요청 기록 (board.request.timing.enabled)
+ * - board.request.phase{handler, phase}: 퍼센타일 히스토그램 + SLO 버킷 (board.request.slo)
+ * - /actuator/slowrequests: threshold 이상 걸린 최근 요청들의 구간별 시간
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.request.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public SlowRequestLog slowRequestLog(@Value("${board.request.slow.threshold-ms:500}") long thresholdMs,
+                                         @Value("${board.request.slow.capacity:100}") int capacity) {
+        return new SlowRequestLog(Duration.ofMillis(thresholdMs).toNanos(), capacity);
+    }
+
+    @Bean
+    public SlowRequestEndpoint slowRequestEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestEndpoint(slowRequestLog);
+    }
+
+    // Spring Security 필터 체인보다 먼저 실행되도록 (JWT 인증 시간까지 요청 시간에 포함)
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            MeterRegistry meterRegistry, SlowRequestLog slowRequestLog,
+            @Value("${board.request.slo:50ms,100ms,250ms,500ms,1s}") Duration[] slo) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(meterRegistry, slo, slowRequestLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor());
+    }
+}
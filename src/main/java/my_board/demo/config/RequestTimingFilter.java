@@ -0,0 +1,96 @@
+package my_board.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 구간별 시간 측정 (보안 필터 체인보다 바깥에서 실행 -> JWT 인증 시간도 포함)
+ * 요청이 끝나면 handler/phase 태그로 board.request.phase 히스토그램에 기록하고, 느린 요청은 SlowRequestLog에 보관
+ * (정적 리소스처럼 컨트롤러 메서드가 아닌 요청은 기록하지 않음)
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+    private static final String TOTAL = "total";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slo;
+    private final SlowRequestLog slowRequestLog;
+    private final Map<String, Map<String, Timer>> timersByHandler = new ConcurrentHashMap<>();
+
+    public RequestTimingFilter(MeterRegistry meterRegistry, Duration[] slo, SlowRequestLog slowRequestLog) {
+        this.meterRegistry = meterRegistry;
+        this.slo = slo;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long totalNanos = System.nanoTime() - timings.getStartNanos();
+            Map<RequestTimings.Phase, Long> phases = timings.finish();
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                record(request, response, QueryStatsInterceptor.handlerName(handler), totalNanos, phases,
+                        timings.getStatements());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, String handler, long totalNanos,
+                        Map<RequestTimings.Phase, Long> phases, int statements) {
+        Map<String, Timer> timers = timersByHandler.computeIfAbsent(handler, this::createTimers);
+        timers.get(TOTAL).record(totalNanos, TimeUnit.NANOSECONDS);
+        phases.forEach((phase, nanos) -> timers.get(phaseName(phase)).record(nanos, TimeUnit.NANOSECONDS));
+
+        if (slowRequestLog.isSlow(totalNanos)) {
+            Map<String, Double> phasesMs = new LinkedHashMap<>();
+            phases.forEach((phase, nanos) -> phasesMs.put(phaseName(phase), toMillis(nanos)));
+            slowRequestLog.add(new SlowRequestLog.SlowRequest(Instant.now(), request.getMethod(),
+                    request.getRequestURI(), handler, response.getStatus(), toMillis(totalNanos), phasesMs, statements));
+        }
+    }
+
+    private Map<String, Timer> createTimers(String handler) {
+        Map<String, Timer> timers = new ConcurrentHashMap<>();
+        timers.put(TOTAL, createTimer(handler, TOTAL));
+        for (RequestTimings.Phase phase : RequestTimings.Phase.values()) {
+            timers.put(phaseName(phase), createTimer(handler, phaseName(phase)));
+        }
+        return timers;
+    }
+
+    private Timer createTimer(String handler, String phase) {
+        return Timer.builder("board.request.phase")
+                .description("요청 구간별 소요 시간 (jwt, member, query, mapping, render, total)")
+                .tag("handler", handler)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slo)
+                .register(meterRegistry);
+    }
+
+    private static String phaseName(RequestTimings.Phase phase) {
+        return phase.name().toLowerCase();
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0; // 소수 둘째 자리까지
+    }
+}
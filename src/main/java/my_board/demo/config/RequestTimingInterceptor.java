@@ -0,0 +1,30 @@
+package my_board.demo.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러 실행(MAPPING)과 뷰 렌더링(RENDER) 경계 표시
+ * preHandle ~ postHandle: 컨트롤러/서비스, postHandle ~ afterCompletion: Thymeleaf 렌더링
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings.handlerStarted();
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestTimings.handlerFinished();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTimings.renderFinished();
+    }
+}
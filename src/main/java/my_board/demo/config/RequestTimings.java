@@ -0,0 +1,141 @@
+package my_board.demo.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 구간별 소요 시간 (현재 스레드)
+ * - JWT: 인증 필터의 토큰 해석/검증
+ * - MEMBER: 회원 조회 (그 안의 SQL 시간 포함)
+ * - QUERY: 그 외 모든 SQL 실행 + 결과 읽기 (QueryStats 집계값, 뷰 렌더링 중 지연 로딩 포함)
+ * - MAPPING: 컨트롤러/서비스 실행 시간 중 SQL과 회원 조회를 뺀 나머지 (엔티티 -> DTO 변환, 모델 준비 등)
+ * - RENDER: Thymeleaf 렌더링 중 SQL을 뺀 나머지 (뷰 렌더링 + 핸들러 안에서 TemplateRenderer로 직접 렌더링한 시간)
+ * RequestTimingFilter가 요청마다 start()/finish()로 감싸고, 각 구간은 필터/인터셉터/서비스에서 기록
+ * (QUERY는 board.db.query-stats.enabled=true일 때만 측정됨, 꺼져 있으면 SQL 시간은 MAPPING/RENDER에 포함)
+ */
+public final class RequestTimings {
+    public enum Phase {
+        JWT, MEMBER, QUERY, MAPPING, RENDER
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final QueryStats.Scope queries = QueryStats.open();
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    private long memberJdbcNanos; // 회원 조회 안에서 실행된 SQL 시간 (QUERY에서 빼고 MEMBER에 포함)
+    private long timedNanos; // time()으로 잰 MEMBER 외 구간 시간 합계 (바깥 구간에서 빼기 위해)
+
+    // 지금 측정 중인 구간(MAPPING 또는 RENDER)과 시작 시점의 값들
+    private Phase openPhase;
+    private long markNanos;
+    private long markJdbcNanos;
+    private long markMemberNanos;
+    private long markMemberJdbcNanos;
+    private long markTimedNanos;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    // 구간 하나를 측정 (요청 밖의 스레드에서는 그냥 실행)
+    // MEMBER는 그 안의 SQL까지 포함, 나머지 구간은 SQL 시간을 빼고 셈 (SQL은 QUERY로)
+    public static <T> T time(Phase phase, Supplier<T> work) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return work.get();
+        }
+        long jdbcBefore = timings.queries.getJdbcNanos();
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long jdbc = timings.queries.getJdbcNanos() - jdbcBefore;
+            if (phase == Phase.MEMBER) {
+                timings.phaseNanos[phase.ordinal()] += elapsed;
+                timings.memberJdbcNanos += jdbc;
+            } else {
+                long own = Math.max(0, elapsed - jdbc);
+                timings.phaseNanos[phase.ordinal()] += own;
+                timings.timedNanos += own;
+            }
+        }
+    }
+
+    // --- 핸들러/렌더링 경계 (RequestTimingInterceptor에서 호출) ---
+    static void handlerStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.open(Phase.MAPPING);
+        }
+    }
+
+    static void handlerFinished() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.close();
+            timings.open(Phase.RENDER);
+        }
+    }
+
+    static void renderFinished() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.close();
+        }
+    }
+
+    private void open(Phase phase) {
+        openPhase = phase;
+        markNanos = System.nanoTime();
+        markJdbcNanos = queries.getJdbcNanos();
+        markMemberNanos = phaseNanos[Phase.MEMBER.ordinal()];
+        markMemberJdbcNanos = memberJdbcNanos;
+        markTimedNanos = timedNanos;
+    }
+
+    // 구간 시간 = 전체 - SQL 시간 - 회원 조회(SQL 제외 부분) - 그 안에서 time()으로 잰 구간(예: 핸들러 안의 RENDER)
+    // -> 각 시간은 자기 구간으로만 셈
+    private void close() {
+        if (openPhase == null) {
+            return;
+        }
+        long wall = System.nanoTime() - markNanos;
+        long jdbc = queries.getJdbcNanos() - markJdbcNanos;
+        long member = (phaseNanos[Phase.MEMBER.ordinal()] - markMemberNanos) - (memberJdbcNanos - markMemberJdbcNanos);
+        long timed = timedNanos - markTimedNanos;
+        phaseNanos[openPhase.ordinal()] += Math.max(0, wall - jdbc - member - timed);
+        openPhase = null;
+    }
+
+    // 요청 종료: 집계를 닫고 구간별 시간을 돌려줌
+    Map<Phase, Long> finish() {
+        close(); // 예외 등으로 렌더링 종료가 기록되지 않은 경우
+        queries.close();
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        phaseNanos[Phase.QUERY.ordinal()] = Math.max(0, queries.getJdbcNanos() - memberJdbcNanos);
+        Map<Phase, Long> result = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            result.put(phase, phaseNanos[phase.ordinal()]);
+        }
+        return result;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    int getStatements() {
+        return queries.getStatements();
+    }
+}
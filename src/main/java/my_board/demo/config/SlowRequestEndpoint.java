@@ -0,0 +1,24 @@
+package my_board.demo.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * GET /actuator/slowrequests - 최근 느린 요청의 구간별 시간 (느린 순)
+ * p99를 끌어올리는 요청이 JWT/회원 조회/쿼리/DTO 변환/렌더링 중 어디서 시간을 쓰는지 확인용
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestEndpoint {
+    private final SlowRequestLog slowRequestLog;
+
+    public SlowRequestEndpoint(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @ReadOperation
+    public List<SlowRequestLog.SlowRequest> slowRequests() {
+        return slowRequestLog.slowest();
+    }
+}
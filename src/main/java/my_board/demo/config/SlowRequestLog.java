@@ -0,0 +1,56 @@
+package my_board.demo.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 느린 요청 기록 (가장 느린 capacity개)
+ * threshold 이상 걸린 요청만 구간별 시간과 함께 보관하고, 가득 차면 보관 중인 것 중 가장 빠른 기록과 비교해서 교체
+ * (소요 시간 기준 최소 힙 -> 맨 위가 가장 빠른 기록, 추가 O(log n))
+ * -> 메모리 사용량이 일정하고, /actuator/slowrequests에서 느린 순으로 확인
+ */
+public class SlowRequestLog {
+    private static final Comparator<SlowRequest> BY_DURATION = Comparator.comparingDouble(SlowRequest::totalMs);
+
+    private final long thresholdNanos;
+    private final int capacity;
+    private final PriorityQueue<SlowRequest> slowest;
+
+    public SlowRequestLog(long thresholdNanos, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다. capacity=" + capacity);
+        }
+        this.thresholdNanos = thresholdNanos;
+        this.capacity = capacity;
+        this.slowest = new PriorityQueue<>(capacity, BY_DURATION);
+    }
+
+    // phasesMs: 구간 이름 -> ms (JWT, MEMBER, QUERY, MAPPING, RENDER)
+    public record SlowRequest(Instant at, String method, String uri, String handler, int status,
+                              double totalMs, Map<String, Double> phasesMs, int statements) {
+    }
+
+    public boolean isSlow(long totalNanos) {
+        return totalNanos >= thresholdNanos;
+    }
+
+    public synchronized void add(SlowRequest request) {
+        if (slowest.size() < capacity) {
+            slowest.add(request);
+        } else if (request.totalMs() > slowest.peek().totalMs()) {
+            slowest.poll(); // 보관 중인 것 중 가장 빠른 기록을 버림
+            slowest.add(request);
+        }
+    }
+
+    // 보관 중인 기록을 느린 순으로
+    public synchronized List<SlowRequest> slowest() {
+        List<SlowRequest> requests = new ArrayList<>(slowest);
+        requests.sort(BY_DURATION.reversed());
+        return requests;
+    }
+}
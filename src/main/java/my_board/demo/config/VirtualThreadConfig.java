@@ -0,0 +1,46 @@
+package my_board.demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ * - Tomcat 요청 처리, @Async/@Scheduled 작업은 Spring Boot가 가상 스레드로 실행
+ * - 블로킹 JDBC 호출이 더 이상 스레드 풀 크기에 묶이지 않으므로,
+ *   DataSource 앞에 동시 접근 제한기를 두어 DB(Hikari 풀)로 요청이 한꺼번에 몰리지 않게 함
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public DbConcurrencyLimiter dbConcurrencyLimiter(
+            // 기본값은 Hikari 최대 풀 크기와 동일 (풀보다 많이 들여보내 봐야 풀 안에서 다시 기다리기만 함)
+            @Value("${board.db.concurrency-limit.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${board.db.concurrency-limit.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        return new DbConcurrencyLimiter(permits, acquireTimeoutMs);
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static으로 등록
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<DbConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 앱이 실제로 쓰는 DataSource 빈("dataSource")만 감쌈
+                // (복제본 라우팅처럼 DataSource가 겹겹이 빈으로 등록돼도 허가는 한 번만 받도록)
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -6,18 +6,25 @@ import lombok.RequiredArgsConstructor;
 import my_board.demo.domain.Member;
 import my_board.demo.dto.LoginRequestDto;
 import my_board.demo.dto.TokenInfo;
+import my_board.demo.security.LoginMember;
 import my_board.demo.service.MemberService;
+import my_board.demo.service.PostService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/members") // URL 공통 부분
 public class MemberController {
     private final MemberService memberService;
+    private final PostService postService;
 
     // --- 회원가입 기능 ---
     // 1. 회원가입 폼을 보여주는 페이지
@@ -68,4 +75,30 @@ public class MemberController {
 
         return "redirect:/posts";
     }
+
+    // --- 작성자별 글 목록 ---
+    // GET /members/{loginId}/posts?cursor= (최신 글부터, 커서로 다음 페이지)
+    @GetMapping("/{loginId}/posts")
+    public String memberPosts(@PathVariable String loginId,
+                              @RequestParam(required = false) String cursor,
+                              @AuthenticationPrincipal LoginMember loginMember, Model model) {
+        // 1. 작성자 확인: 본인 목록이면 JWT principal의 id/닉네임을 그대로 사용 (Member 조회 없음)
+        Long memberId;
+        String nickname;
+        if (loginMember != null && loginMember.getId() != null && loginMember.getNickname() != null
+                && loginMember.getLoginId().equals(loginId)) {
+            memberId = loginMember.getId();
+            nickname = loginMember.getNickname();
+        } else {
+            // 2. 다른 회원의 목록이면 loginId(유니크 인덱스)로 한 번만 조회
+            Member author = memberService.findByLoginId(loginId);
+            memberId = author.getId();
+            nickname = author.getNickname();
+        }
+
+        model.addAttribute("authorLoginId", loginId);
+        model.addAttribute("authorNickname", nickname);
+        model.addAttribute("postPage", postService.findPostsByAuthor(memberId, nickname, cursor, 20));
+        return "members/memberPosts"; // templates/members/memberPosts.html
+    }
 }
@@ -0,0 +1,52 @@
+package my_board.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import my_board.demo.dto.PostImportResult;
+import my_board.demo.service.PostBulkService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 게시글 일괄 가져오기/내보내기 API (다른 게시판에서 이전할 때 사용)
+ * 평소에는 꺼 두고(post.bulk.enabled=false -> 404) 이전 작업 때만 켜서 사용
+ * 가져오기는 글마다 작성자를 지정할 수 있으므로 관리자(ROLE_ADMIN)만 호출 가능 (SecurityConfig)
+ */
+@Tag(name = "게시글 일괄 처리", description = "NDJSON 형식의 게시글 가져오기/내보내기")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posts/bulk")
+@ConditionalOnProperty(name = "post.bulk.enabled", havingValue = "true")
+public class PostBulkController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PostBulkService postBulkService;
+
+    @Operation(summary = "게시글 가져오기", description = "요청 본문의 NDJSON(한 줄에 글 하나)을 읽어 일괄 저장하고, 처리 건수와 초당 처리 행 수를 반환합니다.")
+    @PostMapping(value = "/import", consumes = {NDJSON, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public PostImportResult importPosts(HttpServletRequest request) throws IOException {
+        // 본문을 한 번에 읽지 않고 스트림으로 넘김 (파일이 커도 메모리에 올리지 않음)
+        return postBulkService.importPosts(request.getInputStream());
+    }
+
+    @Operation(summary = "게시글 내보내기", description = "전체 게시글을 id 순 NDJSON으로 내려받습니다.")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        StreamingResponseBody body = postBulkService::exportPosts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(body);
+    }
+}
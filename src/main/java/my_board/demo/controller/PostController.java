@@ -1,28 +1,50 @@
 package my_board.demo.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import my_board.demo.domain.Member;
-import my_board.demo.domain.Post;
+import my_board.demo.cache.PostListFragmentCache;
+import my_board.demo.cache.PostVersionRegistry;
+import my_board.demo.config.ReplicaRoutingDataSource;
+import my_board.demo.config.RequestTimings;
+import my_board.demo.dto.HotPostDto;
+import my_board.demo.dto.PageNavigation;
 import my_board.demo.dto.PostResponseDto;
 import my_board.demo.dto.PostSaveRequestDto;
+import my_board.demo.dto.PostSummaryDto;
 import my_board.demo.dto.PostUpdateRequestDto;
 import my_board.demo.repository.MemberRepository;
-import my_board.demo.repository.PostRepository;
+import my_board.demo.search.PostSearchEngine;
+import my_board.demo.security.LoginMember;
+import my_board.demo.service.HotPostService;
 import my_board.demo.service.PostService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 @Tag(name = "게시판 기능", description = "게시글 조회/작성/수정/삭제") // [1] 그룹 이름 추가
@@ -38,35 +60,152 @@ import org.springframework.http.MediaType;
 })
 public class PostController {
     private final PostService postService;
-    private final PostRepository postRepository;
     private final MemberRepository memberRepository; // 현재 사용자 조회용
+    private final PostSearchEngine postSearchEngine; // 게시글 검색
+    private final HotPostService hotPostService; // 인기 글 스냅샷
+    private final PostVersionRegistry postVersionRegistry; // 조건부 요청(ETag) 확인용 버전
+    private final PostListFragmentCache postListFragmentCache; // 렌더링된 목록 HTML
+    private final TemplateRenderer templateRenderer;
+
+    // HTML 응답: 브라우저는 저장해 두되 쓸 때마다 서버에 확인(If-None-Match) -> 바뀌지 않았으면 304
+    // 로그인 사용자마다 화면(닉네임, 수정/삭제 버튼)이 달라서 공유 캐시(프록시)에는 저장하지 않음(private)
+    private static final String HTML_CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    // ETag는 약한(W/) ETag로: Tomcat은 강한 ETag가 붙은 응답은 gzip 압축을 하지 않음
+    // (HTML은 같은 내용이면 충분하고 바이트 단위 일치(Range 요청 등)는 필요 없음)
+
+    // 목록 페이징 방식: page(기존 페이지 번호 + count) / cursor(키셋, count 없음)
+    // 두 방식의 응답 시간을 비교할 수 있도록 설정으로 전환
+    @Value("${post.list.pagination:page}")
+    private String paginationMode;
+
+    // 페이지 번호 방식에서 현재 페이지 앞뒤로 보여줄 페이지 수 (처음/마지막 페이지는 항상 표시)
+    @Value("${post.list.page-window:2}")
+    private int pageWindow;
 
     // 현재 로그인한 사용자를 가져오는 헬퍼 메서드
-    private Member getLoginMember() {
+    // JWT 클레임으로 만든 principal을 그대로 사용 (DB 조회 없음)
+    private LoginMember getLoginMember() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || auth.getPrincipal().equals("anonymousUser")) {
+        if (auth == null || !(auth.getPrincipal() instanceof LoginMember loginMember)) {
             return null;
         }
-        // 인증된 사용자의 ID(loginId)로 DB에서 조회
-        return memberRepository.findByLoginId(auth.getName()).orElse(null);
+        // 클레임이 없는 예전 토큰일 때만 인증된 사용자의 ID(loginId)로 DB에서 조회
+        if (loginMember.getId() == null || loginMember.getNickname() == null) {
+            return RequestTimings.time(RequestTimings.Phase.MEMBER,
+                            () -> memberRepository.findByLoginId(loginMember.getLoginId()))
+                    .map(member -> new LoginMember(member.getId(), member.getLoginId(), "",
+                            member.getNickname(), loginMember.getAuthorities()))
+                    .orElse(null);
+        }
+        return loginMember;
+    }
+
+    // ETag에 넣는 사용자 구분 값 (같은 글이라도 로그인 여부/사용자에 따라 화면이 다름)
+    private static String viewerTag(LoginMember loginMember) {
+        return (loginMember == null) ? "anon" : "m" + loginMember.getId();
     }
 
     // 게시글 전체 목록 페이지
+    // 목록/페이지네이션/인기 글 부분은 누가 보든 같으므로 렌더링한 HTML을 캐시해 두고 재사용 (PostListFragmentCache)
+    // - 비로그인: 페이지 전체가 같음 -> 캐시된 바이트를 그대로 응답 (DB 조회, 템플릿 렌더링 없음)
+    // - 로그인: 캐시된 목록 조각에 사용자별 헤더(닉네임, 내 글, 글쓰기 버튼)만 다시 렌더링
     @Operation(summary = "게시글 목록 페이지", description = "게시글 목록을 보여주는 HTML 화면을 요청합니다.")
     @GetMapping
-    public String listPosts(Model model, @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<Post> postPage = postRepository.findAllWithMember(pageable);
-        model.addAttribute("postPage", postPage.map(PostResponseDto::new));
-        model.addAttribute("loginMember", getLoginMember());
+    public String listPosts(Model model, @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+                            @RequestParam(required = false) String before,
+                            @RequestParam(required = false) String after,
+                            WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 글 작성/수정/삭제도, 인기 글 변화도 없었으면 템플릿 렌더링 없이 304 (DB 조회 없음)
+        LoginMember loginMember = getLoginMember();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, HTML_CACHE_CONTROL);
+        // (버전 번호는 이 서버 프로세스 안에서만 유효 -> 기동 시각 epoch를 앞에 붙임)
+        String listVersion = postVersionRegistry.getEpoch() + "-l" + postVersionRegistry.getListVersion()
+                + "-h" + hotPostService.getSnapshotVersion();
+        String etag = "W/\"" + listVersion + "-" + viewerTag(loginMember) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 응답(304)은 이미 처리됨
+        }
+
+        String pageKey = listPageKey(pageable, before, after);
+        if (loginMember == null) {
+            byte[] page = postListFragmentCache.get("anon|" + pageKey, listVersion, () -> templateRenderer.render(
+                    "posts/postList", listPageVariables(null, listFragment(pageKey, listVersion, pageable, before, after,
+                            request, response)), request, response));
+            response.setContentType(MediaType.TEXT_HTML_VALUE + ";charset=UTF-8");
+            response.setContentLength(page.length);
+            response.getOutputStream().write(page);
+            return null; // 응답을 직접 씀 (뷰 렌더링 없음)
+        }
+
+        model.addAllAttributes(listPageVariables(loginMember,
+                listFragment(pageKey, listVersion, pageable, before, after, request, response)));
         return "posts/postList";
     }
 
+    // 목록 조각 HTML (캐시에 없거나 버전이 바뀌었을 때만 DB 조회 + 렌더링)
+    private String listFragment(String pageKey, String listVersion, Pageable pageable, String before, String after,
+                                HttpServletRequest request, HttpServletResponse response) {
+        // 모든 사용자가 보게 될 HTML이므로 복제본이 아닌 primary에서 읽음
+        // (글 작성/수정/삭제 직후 복제 지연된 옛 목록이 새 버전으로 캐시되지 않도록, miss일 때만이라 부하는 작음)
+        byte[] fragment = postListFragmentCache.get("list|" + pageKey, listVersion,
+                () -> ReplicaRoutingDataSource.readFromPrimary(() -> {
+            Map<String, Object> variables = new HashMap<>();
+            if ("cursor".equals(paginationMode)) {
+                // 커서 모드: ?before=<토큰> (다음 페이지) / ?after=<토큰> (이전 페이지)
+                variables.put("cursorPage", postService.findPostsByCursor(before, after, pageable.getPageSize()));
+            } else {
+                // 목록에서는 본문이 필요 없으므로 요약 Projection으로 바로 조회 (엔티티 생성 X)
+                Page<PostSummaryDto> postPage = postService.findPostPage(pageable);
+                variables.put("postPage", postPage);
+                variables.put("pageNav", PageNavigation.of(postPage, pageWindow)); // 페이지 번호는 현재 페이지 주변만
+            }
+            variables.put("hotPosts", hotPostService.getHotPosts(HotPostService.Window.HOUR)); // 사이드바 (DB 조회 없음)
+            return templateRenderer.render("posts/postListFragment", variables, request, response);
+        }));
+        return new String(fragment, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> listPageVariables(LoginMember loginMember, String listFragment) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("loginMember", loginMember);
+        variables.put("listFragment", listFragment);
+        return variables;
+    }
+
+    // 목록 캐시 key: 페이징 방식에 따라 page/size/sort 또는 커서 토큰
+    private String listPageKey(Pageable pageable, String before, String after) {
+        if ("cursor".equals(paginationMode)) {
+            String cursor = (after != null) ? "after=" + after : (before != null) ? "before=" + before : "first";
+            return cursor + "&size=" + pageable.getPageSize();
+        }
+        return "page=" + pageable.getPageNumber() + "&size=" + pageable.getPageSize() + "&sort=" + pageable.getSort();
+    }
+
+    // 인기 글 (JSON) - 주기적으로 갱신되는 스냅샷을 그대로 반환
+    @Operation(summary = "인기 글 목록", description = "최근 1시간(hour) 또는 1일(day) 동안 조회/수정이 많은 게시글을 반환합니다.")
+    @GetMapping(value = "/hot", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public List<HotPostDto> hotPosts(@RequestParam(defaultValue = "hour") String window) {
+        return hotPostService.getHotPosts(HotPostService.Window.from(window));
+    }
+
+    // 게시글 검색 (제목 + 본문)
+    @Operation(summary = "게시글 검색", description = "제목/본문에 검색어가 포함된 게시글을 관련도 순으로 보여줍니다.")
+    @GetMapping("/search")
+    public String searchPosts(@RequestParam(name = "q", required = false) String query,
+                              @RequestParam(required = false) String cursor, Model model) {
+        model.addAttribute("query", query);
+        model.addAttribute("searchPage", postSearchEngine.search(query, cursor, 20));
+        model.addAttribute("loginMember", getLoginMember());
+        return "posts/postSearch";
+    }
+
     // --- Create ---
     // 1. 글 작성 폼(HTML)을 보여줌 (GET)
     @Operation(summary = "게시글 작성 페이지", description = "게시글 작성 페이지를 보여줍니다.")
     @GetMapping("/add")
     public String addForm(Model model) {
-        Member loginMember = getLoginMember();
+        LoginMember loginMember = getLoginMember();
         if (loginMember == null) {
             return "redirect:/members/login";
         }
@@ -78,7 +217,7 @@ public class PostController {
     @Operation(summary = "게시글 작성 기능", description = "Member 정보를 가져와 게시글을 작성합니다.")
     @PostMapping(value = "/add", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
     public String savePost(@ModelAttribute PostSaveRequestDto Save_Req) {
-        Member loginMember = getLoginMember();
+        LoginMember loginMember = getLoginMember();
 
         if (loginMember == null) {
             return "redirect:/members/login";
@@ -98,13 +237,31 @@ public class PostController {
     // 3. 글 상세 조회
     @Operation(summary = "게시글 조회", description = "게시글의 제목과 내용 등 상세 내용을 보여줍니다.")
     @GetMapping("/{id}")
-    public String postDetail(@PathVariable Long id, Model model) {
-        // N+1 문제를 해결하기 위해 Fetch Join을 사용한 findById
-        Post post = postRepository.findByIdWithMember(id)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid post Id:" + id));
+    public String postDetail(@PathVariable Long id, Model model, WebRequest webRequest, HttpServletResponse response) {
+        LoginMember loginMember = getLoginMember();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, HTML_CACHE_CONTROL);
 
-        model.addAttribute("post", new PostResponseDto(post));
-        model.addAttribute("loginMember", getLoginMember());
+        // 1. 버전(수정 시각): 버전 맵에 있으면 그 값, 없으면 상세 조회 후 (조회하면서 버전 맵도 채워짐)
+        //    캐시에 없을 때만 Fetch Join(findByIdWithMember)으로 DB 조회 + 조회수 증가
+        PostResponseDto post = null;
+        Long version = postVersionRegistry.getPostVersion(id);
+        if (version == null) {
+            post = postService.viewPostDetail(id);
+            version = PostVersionRegistry.toVersion(post.getModifiedDate());
+        }
+
+        // 2. 브라우저에 있는 것과 같으면 템플릿 렌더링 없이 304
+        //    (ETag는 글 id + 수정 시각 + 사용자 / 조회수는 ETag에 넣지 않으므로 304면 브라우저에 있던 조회수가 보임)
+        String etag = "W/\"p" + id + "-" + version + "-" + viewerTag(loginMember) + "\"";
+        if (webRequest.checkNotModified(etag, version)) {
+            if (post == null) {
+                postService.recordView(id); // 304여도 조회는 조회
+            }
+            return null;
+        }
+
+        model.addAttribute("post", (post != null) ? post : postService.viewPostDetail(id));
+        model.addAttribute("loginMember", loginMember);
 
         return "posts/postDetail";
     }
@@ -114,35 +271,38 @@ public class PostController {
     @Operation(summary = "게시글 수정 페이지", description = "게시글 수정 페이지를 보여줍니다.")
     @GetMapping("/{id}/edit")
     public String updateForm(@PathVariable Long id, Model model) {
-        Post post = postRepository.findByIdWithMember(id)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid post Id:" + id));
+        PostResponseDto post = postService.findPostDetail(id);
 
         // 작성자 본인 확인
-        Member loginMember = getLoginMember();
-        if (loginMember == null || post.getMember() == null || !post.getMember().getLoginId().equals(loginMember.getLoginId())) {
+        LoginMember loginMember = getLoginMember();
+        if (loginMember == null || post.getAuthorLoginId() == null || !post.getAuthorLoginId().equals(loginMember.getLoginId())) {
             return "redirect:/posts";
         }
 
-        model.addAttribute("post", new PostResponseDto(post));
+        model.addAttribute("post", post);
         model.addAttribute("loginMember", loginMember);
 
         return "posts/postEditForm";
     }
 
     // 5. 폼 데이터를 받아서 실제 글 수정 처리 (POST)
+    //    작성자 확인과 동시 수정 확인은 서비스의 조건부 UPDATE 한 문장으로 처리 (글을 미리 조회하지 않음)
     @Operation(summary = "게시글 수정", description = "작성자 확인 후 게시글을 수정합니다.")
     @PostMapping(value = "/{id}/edit",  consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public String updatePost(@PathVariable Long id, @ModelAttribute PostUpdateRequestDto Update_Req) {
-        Post post = postRepository.findByIdWithMember(id)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid post Id:" + id));
-
-        // 작성자 본인 확인
-        Member loginMember = getLoginMember();
-        if (loginMember == null || post.getMember() == null || !post.getMember().getLoginId().equals(loginMember.getLoginId())) {
+    public String updatePost(@PathVariable Long id, @Valid @ModelAttribute PostUpdateRequestDto Update_Req) {
+        LoginMember loginMember = getLoginMember();
+        if (loginMember == null) {
             return "redirect:/posts";
         }
 
-        postService.update(id, Update_Req);
+        try {
+            postService.update(id, Update_Req, loginMember.getId());
+        } catch (AccessDeniedException e) {
+            return "redirect:/posts"; // 작성자 본인이 아님
+        } catch (OptimisticLockingFailureException e) {
+            // 폼을 연 뒤 다른 곳에서 먼저 수정됨 -> 최신 내용으로 폼을 다시 열어서 확인하도록
+            return "redirect:/posts/" + id + "/edit?error=conflict";
+        }
         return "redirect:/posts/" + id;
     }
 
@@ -151,16 +311,16 @@ public class PostController {
     @Operation(summary = "게시글 삭제", description = "작성자 확인 후 게시글을 삭제합니다.")
     @PostMapping("/{id}/delete")
     public String deletePost(@PathVariable Long id) {
-        Post post = postRepository.findByIdWithMember(id)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid post Id:" + id));
-
-        // 작성자 본인 확인
-        Member loginMember = getLoginMember();
-        if (loginMember == null || post.getMember() == null || !post.getMember().getLoginId().equals(loginMember.getLoginId())) {
+        LoginMember loginMember = getLoginMember();
+        if (loginMember == null) {
             return "redirect:/posts";
         }
 
-        postService.delete(id);
+        try {
+            postService.delete(id, loginMember.getId()); // 작성자 확인 + 삭제를 DELETE 한 문장으로
+        } catch (AccessDeniedException e) {
+            return "redirect:/posts";
+        }
         return "redirect:/posts";
     }
 }
@@ -0,0 +1,43 @@
+package my_board.demo.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import my_board.demo.config.RequestTimings;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 템플릿을 응답에 바로 쓰지 않고 UTF-8 바이트로 렌더링 (렌더링 결과를 캐시해 두고 재사용할 때 사용)
+ * 뷰 리졸버를 거칠 때와 같은 SpringTemplateEngine + WebContext(@{...} 링크, SpEL)를 사용
+ * 핸들러 안에서 실행되므로 걸린 시간은 MAPPING이 아니라 RENDER 구간으로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class TemplateRenderer {
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+
+    public byte[] render(String template, Map<String, Object> variables,
+                         HttpServletRequest request, HttpServletResponse response) {
+        Map<String, Object> contextVariables = new HashMap<>(variables);
+        // SpEL에서 @빈 참조/변환 서비스를 쓸 수 있도록 (ThymeleafView가 넣어 주는 것과 같은 값)
+        contextVariables.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+
+        JakartaServletWebApplication application =
+                JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext context = new WebContext(application.buildExchange(request, response),
+                request.getLocale(), contextVariables);
+        return RequestTimings.time(RequestTimings.Phase.RENDER,
+                () -> templateEngine.process(template, context).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,8 +7,13 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 자동 생성
 @Entity
 public class Member {
+    // id는 시퀀스로 발급 (Post와 동일, pooled 옵티마이저)
+    public static final String ID_SEQUENCE = "member_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_id_generator")
+    @SequenceGenerator(name = "member_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false) // 로그인 ID (중복 불가)
@@ -10,11 +10,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class Post extends BaseTime { // 1. BaseTime 상속 (createdDate, modifiedDate 자동 포함)
+    // id는 시퀀스로 발급 (IDENTITY는 INSERT를 바로 실행해야 id를 알 수 있어서 JDBC 배치가 꺼짐)
+    // pooled: 시퀀스를 한 번 호출할 때마다 id 50개를 미리 받아서 메모리에서 나눠 씀 (시퀀스 INCREMENT BY도 50이어야 함)
+    public static final String ID_SEQUENCE = "post_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final int TITLE_MAX_LENGTH = 255; // post.title varchar(255) (글자 수)
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_id_generator")
+    @SequenceGenerator(name = "post_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
     private String title; // 제목
 
     @Column(nullable = false, columnDefinition = "TEXT") // 2. 내용을 길게 쓸 수 있도록 TEXT 타입
@@ -25,6 +32,18 @@ public class Post extends BaseTime { // 1. BaseTime 상속 (createdDate, modifie
     @JoinColumn(name = "member_id") // DB에는 'member_id'라는 FK(외래키) 칼럼으로 생성됨
     private Member member; // '작성자'를 String이 아닌 Member 객체로 관리
 
+    // 조회수. 엔티티로는 변경하지 않고 ViewCountService가 모아서 "views = views + ?"로 일괄 반영
+    // updatable = false: 글 수정(더티 체킹) UPDATE에 예전 조회수가 실려서 그 사이 반영된 증가분을 덮어쓰지 않도록
+    // (기존 행이 있는 테이블에도 칼럼을 추가할 수 있도록 DB 기본값 0 지정)
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long views;
+
+    // 낙관적 잠금 버전: 글을 수정할 때마다 1씩 증가
+    // 수정 폼에 불러올 때의 버전과 저장할 때의 버전이 다르면 그 사이 다른 수정이 있었던 것 -> 덮어쓰지 않고 충돌로 처리
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     // 4. Builder (Member에서 배운 내용)
     @Builder
     public Post(String title, String content, Member member) {
@@ -33,12 +52,5 @@ public class Post extends BaseTime { // 1. BaseTime 상속 (createdDate, modifie
         this.member = member;
     }
 
-    // 5. 수정(Update)을 위한 비즈니스 로직
-    //    서비스(Service) 계층에서 엔티티의 데이터를 직접 수정하는 대신,
-    //    엔티티가 스스로 상태를 변경하도록 메서드를 제공 (객체지향적)
-    public void update(String title, String content) {
-        this.title = title;
-        this.content = content;
-        // save()가 호출되면 @LastModifiedDate에 의해 modifiedDate는 자동으로 업데이트됨
-    }
+    // (참고) 글 수정은 엔티티를 읽어서 바꾸지 않고 PostRepository.updateIfOwner(조건부 UPDATE 한 문장)로 처리
 }
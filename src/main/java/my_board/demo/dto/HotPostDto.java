@@ -0,0 +1,22 @@
+package my_board.demo.dto;
+
+import lombok.Getter;
+
+/**
+ * 인기 글 목록 항목 (사이드바, /posts/hot 응답)
+ * score는 최근 조회/수정 활동을 시간에 따라 감쇠시켜 합산한 값 (오래된 활동일수록 적게 반영)
+ */
+@Getter
+public class HotPostDto {
+    private final Long id;
+    private final String title;
+    private final String authorNickname;
+    private final double score;
+
+    public HotPostDto(PostSummaryDto post, double score) {
+        this.id = post.getId();
+        this.title = post.getTitle();
+        this.authorNickname = post.getAuthorNickname();
+        this.score = Math.round(score * 100) / 100.0;
+    }
+}
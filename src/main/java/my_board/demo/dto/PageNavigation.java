@@ -0,0 +1,77 @@
+package my_board.demo.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 페이지 번호 목록 (화면용)
+ * 전체 페이지를 다 그리지 않고 처음/마지막 페이지 + 현재 페이지 앞뒤 window개만 표시
+ * 예) 전체 10000쪽, 현재 5000쪽, window 2 -> 1 … 4998 4999 5000 5001 5002 … 10000
+ * - pages: 표시할 페이지 번호(0부터), 건너뛴 구간은 null (화면에서 "…")
+ */
+@Getter
+public class PageNavigation {
+    private final int number;     // 현재 페이지 (0부터)
+    private final int totalPages;
+    private final List<Integer> pages;
+
+    private PageNavigation(int number, int totalPages, List<Integer> pages) {
+        this.number = number;
+        this.totalPages = totalPages;
+        this.pages = pages;
+    }
+
+    public static PageNavigation of(Page<?> page, int window) {
+        return of(page.getNumber(), page.getTotalPages(), window);
+    }
+
+    public static PageNavigation of(int number, int totalPages, int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("window는 0 이상이어야 합니다. window=" + window);
+        }
+        if (totalPages <= 0) {
+            return new PageNavigation(number, 0, Collections.emptyList());
+        }
+
+        int last = totalPages - 1;
+        int from = Math.max(0, Math.min(number, last) - window);
+        int to = Math.min(last, Math.max(number, 0) + window);
+
+        List<Integer> pages = new ArrayList<>(to - from + 5);
+        // 1. 첫 페이지 (+ 창과의 사이가 한 쪽뿐이면 "…" 대신 그 페이지)
+        if (from > 0) {
+            pages.add(0);
+            if (from == 2) {
+                pages.add(1);
+            } else if (from > 2) {
+                pages.add(null);
+            }
+        }
+        // 2. 현재 페이지 주변
+        for (int p = from; p <= to; p++) {
+            pages.add(p);
+        }
+        // 3. 마지막 페이지
+        if (to < last) {
+            if (to == last - 2) {
+                pages.add(last - 1);
+            } else if (to < last - 2) {
+                pages.add(null);
+            }
+            pages.add(last);
+        }
+        return new PageNavigation(number, totalPages, Collections.unmodifiableList(pages));
+    }
+
+    public boolean isFirst() {
+        return number <= 0;
+    }
+
+    public boolean isLast() {
+        return number >= totalPages - 1;
+    }
+}
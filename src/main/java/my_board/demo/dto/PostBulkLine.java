@@ -0,0 +1,29 @@
+package my_board.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 가져오기/내보내기의 한 줄 (NDJSON: 한 줄에 JSON 객체 하나)
+ * 내보낸 파일을 그대로 가져올 수 있도록 같은 형식을 사용 (가져올 때 id는 무시하고 새로 발급)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PostBulkLine {
+    private Long id;
+    private String title;
+    private String content;
+    private String authorLoginId; // 작성자 loginId (가져올 때 이 아이디의 회원이 미리 있어야 함)
+    private LocalDateTime createdDate; // 없으면 가져온 시각
+    private LocalDateTime modifiedDate; // 없으면 createdDate
+}
@@ -0,0 +1,37 @@
+package my_board.demo.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 이어보기 토큰
+ * 클라이언트에는 게시글 id를 그대로 노출하지 않고, 불투명한(opaque) 문자열로 감싸서 전달
+ */
+public final class PostCursor {
+    private static final String PREFIX = "p:";
+
+    private PostCursor() {
+    }
+
+    // id -> 토큰 (URL에 그대로 쓸 수 있도록 URL-safe Base64, 패딩 없음)
+    public static String encode(Long id) {
+        if (id == null) {
+            return null;
+        }
+        byte[] raw = (PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // 토큰 -> id (형식이 맞지 않으면 IllegalArgumentException)
+    public static Long decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package my_board.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 결과 (Slice 스타일: 전체 개수(count)는 모름)
+ * - nextCursor: 더 오래된 글로 이동하는 토큰 (?before=)
+ * - prevCursor: 더 최신 글로 이동하는 토큰 (?after=)
+ */
+@Getter
+public class PostCursorPage {
+    private final List<PostSummaryDto> content;
+    private final String nextCursor;
+    private final String prevCursor;
+
+    public PostCursorPage(List<PostSummaryDto> content, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+}
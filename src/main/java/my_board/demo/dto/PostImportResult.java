@@ -0,0 +1,25 @@
+package my_board.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 결과
+ */
+@Getter
+public class PostImportResult {
+    private final long imported; // 저장된 글 수
+    private final long rejected; // 형식 오류, 없는 작성자 등으로 건너뛴 줄 수
+    private final List<String> errors; // 건너뛴 이유 (앞쪽 일부만)
+    private final long elapsedMillis;
+    private final double rowsPerSecond;
+
+    public PostImportResult(long imported, long rejected, List<String> errors, long elapsedMillis) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = (elapsedMillis > 0) ? Math.round(imported * 1000.0 / elapsedMillis) : imported;
+    }
+}
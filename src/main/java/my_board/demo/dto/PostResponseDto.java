@@ -15,6 +15,8 @@ public class PostResponseDto {
     private String authorLoginId; // 작성자 본인 확인을 위한 loginId
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
+    private long views; // 조회수 (DB에 반영된 값, 화면에는 withViews로 미반영 증가분을 더해서 보여줌)
+    private long version; // 글 버전 (수정 폼에서 동시 수정 확인용)
 
     // 2. DTO가 Entity를 입력받는 생성자
     //    Entity를 예쁜 접시에 옮겨담는 과정
@@ -34,5 +36,24 @@ public class PostResponseDto {
 
         this.createdDate = entity.getCreatedDate();
         this.modifiedDate = entity.getModifiedDate();
+        this.views = entity.getViews();
+        this.version = entity.getVersion();
+    }
+
+    // 캐시된 DTO는 여러 요청이 공유하므로 직접 바꾸지 않고, 조회수만 다른 복사본을 만듦
+    private PostResponseDto(PostResponseDto source, long views) {
+        this.id = source.id;
+        this.title = source.title;
+        this.content = source.content;
+        this.authorNickname = source.authorNickname;
+        this.authorLoginId = source.authorLoginId;
+        this.createdDate = source.createdDate;
+        this.modifiedDate = source.modifiedDate;
+        this.views = views;
+        this.version = source.version;
+    }
+
+    public PostResponseDto withViews(long views) {
+        return new PostResponseDto(this, views);
     }
 }
@@ -0,0 +1,37 @@
+package my_board.demo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 화면 전용 DTO
+ * 목록에서는 본문(content, TEXT)이 필요 없으므로 id/제목/작성자 닉네임/작성일만 담음
+ * Repository에서 JPQL 생성자 표현식(new ...)으로 바로 만들어지기 때문에
+ * Post 엔티티(영속성 컨텍스트, 스냅샷)가 전혀 만들어지지 않음
+ */
+@Getter
+public class PostSummaryDto {
+    private final Long id;
+    private final String title;
+    private final String authorNickname;
+    private final LocalDateTime createdDate;
+
+    public PostSummaryDto(Long id, String title, String authorNickname, LocalDateTime createdDate) {
+        this.id = id;
+        this.title = title;
+        // 작성자가 없는 글은 PostResponseDto와 동일하게 표시
+        this.authorNickname = (authorNickname != null) ? authorNickname : "알 수 없는 사용자";
+        this.createdDate = createdDate;
+    }
+
+    // 작성자별 목록용: 작성자를 이미 알고 있으므로 member를 조인하지 않고 post 칼럼만으로 생성
+    // (닉네임은 조회 후 withAuthorNickname으로 채움)
+    public PostSummaryDto(Long id, String title, LocalDateTime createdDate) {
+        this(id, title, null, createdDate);
+    }
+
+    public PostSummaryDto withAuthorNickname(String authorNickname) {
+        return new PostSummaryDto(id, title, authorNickname, createdDate);
+    }
+}
@@ -1,5 +1,6 @@
 package my_board.demo.dto;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,10 +12,13 @@ import lombok.Setter;
 public class PostUpdateRequestDto {
     private String title;
     private String content;
+    @NotNull // 없으면 컨트롤러에서 400 (서비스까지 가지 않음)
+    private Long version; // 수정 폼을 열 때의 글 버전 (폼의 hidden 필드) -> 그 사이 다른 수정이 있었는지 확인
 
     @Builder
-    public PostUpdateRequestDto(String title, String content) {
+    public PostUpdateRequestDto(String title, String content, Long version) {
         this.title = title;
         this.content = content;
+        this.version = version;
     }
 }
@@ -3,8 +3,13 @@ package my_board.demo.repository;
 import my_board.demo.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByLoginId(String loginId);
+
+    // 여러 작성자를 IN 쿼리 한 번으로 조회 (게시글 일괄 가져오기용)
+    List<Member> findAllByLoginIdIn(Collection<String> loginIds);
 }
@@ -1,13 +1,18 @@
 package my_board.demo.repository;
 
 import my_board.demo.domain.Post;
+import my_board.demo.dto.PostSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-// import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -18,6 +23,74 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(value = "SELECT p FROM Post p LEFT JOIN FETCH p.member", countQuery = "SELECT count(p) FROM Post p")
     Page<Post> findAllWithMember(Pageable pageable);
 
+    // --- 목록 화면 전용 요약 조회 (Projection) ---
+    // 본문(content)을 SELECT하지 않고, 엔티티 대신 PostSummaryDto를 바로 생성
+    // 작성자는 닉네임만 필요하므로 FETCH JOIN 대신 일반 LEFT JOIN으로 칼럼만 가져옴
+    String SUMMARY_SELECT = "SELECT new my_board.demo.dto.PostSummaryDto(p.id, p.title, m.nickname, p.createdDate) " +
+                            "FROM Post p LEFT JOIN p.member m ";
+
+    // 페이지 번호 방식 (정렬/OFFSET/LIMIT은 Pageable로 전달)
+    // 반환 타입이 List라서 count 쿼리를 날리지 않음 -> 전체 개수는 PostCountService 캐시 값을 사용
+    @Query(SUMMARY_SELECT)
+    List<PostSummaryDto> findSummaries(Pageable pageable);
+
+    // --- 커서(Keyset) 페이징 ---
+    // Slice는 count 쿼리를 날리지 않고, (size + 1)개를 조회해서 다음 페이지 존재 여부만 판단함
+    // OFFSET 없이 id 인덱스를 타고 바로 위치를 찾기 때문에 깊은 페이지도 비용이 일정함
+
+    // 1. 첫 페이지 (가장 최신 글부터)
+    @Query(SUMMARY_SELECT + "ORDER BY p.id DESC")
+    Slice<PostSummaryDto> findSummarySlice(Pageable pageable);
+
+    // 2. 다음 페이지: 기준 id보다 '오래된' 글 (id DESC)
+    @Query(SUMMARY_SELECT + "WHERE p.id < :id ORDER BY p.id DESC")
+    Slice<PostSummaryDto> findSummarySliceBefore(@Param("id") Long id, Pageable pageable);
+
+    // 3. 이전 페이지: 기준 id보다 '최신' 글 (id ASC로 가까운 것부터 가져온 뒤 뒤집어서 사용)
+    @Query(SUMMARY_SELECT + "WHERE p.id > :id ORDER BY p.id ASC")
+    Slice<PostSummaryDto> findSummarySliceAfter(@Param("id") Long id, Pageable pageable);
+
+    // --- 작성자별 글 목록 (키셋) ---
+    // (member_id, id DESC) INCLUDE (title, created_date) 인덱스 범위를 그대로 읽음 -> 정렬/테이블 접근 없이 LIMIT만큼만 읽음
+    // 작성자는 호출하는 쪽에서 이미 알고 있으므로 member는 조인하지 않음 (p.member.id는 FK 칼럼이라 조인이 생기지 않음)
+    String AUTHOR_SUMMARY_SELECT = "SELECT new my_board.demo.dto.PostSummaryDto(p.id, p.title, p.createdDate) " +
+                                   "FROM Post p WHERE p.member.id = :memberId ";
+
+    @Query(AUTHOR_SUMMARY_SELECT + "ORDER BY p.id DESC")
+    Slice<PostSummaryDto> findAuthorSummarySlice(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query(AUTHOR_SUMMARY_SELECT + "AND p.id < :id ORDER BY p.id DESC")
+    Slice<PostSummaryDto> findAuthorSummarySliceBefore(@Param("memberId") Long memberId, @Param("id") Long id, Pageable pageable);
+
+    // --- 검색 (LIKE, 내장 DB용) ---
+    // id 목록으로 요약 조회 (인기 글 스냅샷 갱신용, 순서는 보장하지 않음)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 제목/본문에 검색어가 포함된 글을 최신 순 키셋 페이징 (:pattern은 '%검색어%' 형태의 소문자)
+    @Query(SUMMARY_SELECT +
+           "WHERE (lower(p.title) LIKE :pattern ESCAPE '!' OR lower(p.content) LIKE :pattern ESCAPE '!') " +
+           "AND p.id < :id ORDER BY p.id DESC")
+    Slice<PostSummaryDto> searchSummariesBefore(@Param("pattern") String pattern, @Param("id") Long id, Pageable pageable);
+
+    // --- 작성자 확인 + 수정/삭제를 문장 하나로 (조건부 쓰기) ---
+    // 조회 후 확인하는 대신 WHERE에 작성자/버전 조건을 넣고, 반영된 행 수(0 또는 1)로 성공 여부를 판단
+    // 벌크 연산이라 @LastModifiedDate가 동작하지 않으므로 수정 시각은 직접 넘김
+
+    // 작성자 본인이고, 폼을 열 때의 버전 그대로일 때만 수정 (버전 + 1)
+    @Modifying
+    @Query("UPDATE Post p SET p.title = :title, p.content = :content, p.modifiedDate = :modifiedDate, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id = :id AND p.member.id = :memberId AND p.version = :version")
+    int updateIfOwner(@Param("id") Long id, @Param("memberId") Long memberId, @Param("version") long version,
+                      @Param("title") String title, @Param("content") String content,
+                      @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    // 작성자 본인일 때만 삭제
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id = :id AND p.member.id = :memberId")
+    int deleteIfOwner(@Param("id") Long id, @Param("memberId") Long memberId);
+
     @Query("SELECT p FROM Post p " +
            "LEFT JOIN FETCH p.member " + // 1. 작성자(N:1)도 JOIN FETCH
            //"LEFT JOIN FETCH p.comments " + // 2. 댓글(1:N)도 JOIN FETCH
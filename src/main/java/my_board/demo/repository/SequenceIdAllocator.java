@@ -0,0 +1,47 @@
+package my_board.demo.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JPA를 거치지 않는 JDBC INSERT(게시글 일괄 가져오기, 부하 테스트 시드)용 id 발급기
+ * 엔티티와 같은 시퀀스를 Hibernate pooled 옵티마이저와 같은 규칙으로 사용해서 id가 겹치지 않게 함
+ * - 시퀀스 값 v 하나로 (v - allocationSize, v] 범위를 사용 -> nextval은 allocationSize개마다 한 번
+ * 스레드 안전하지 않음 (작업 하나당 인스턴스 하나)
+ */
+public class SequenceIdAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final int allocationSize;
+
+    private long next = 1;
+    private long hi = 0; // 현재 범위의 마지막 id (next > hi 이면 새 범위 필요)
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, String sequenceName, int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = nextValueSql(jdbcTemplate, sequenceName);
+        this.allocationSize = allocationSize;
+    }
+
+    public long nextId() {
+        if (next > hi) {
+            Long value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            if (value == null) {
+                throw new IllegalStateException("시퀀스 값을 가져오지 못했습니다. sql=" + nextValueSql);
+            }
+            hi = value;
+            // 새로 만든 시퀀스의 첫 값(1)은 범위가 음수로 내려가지 않도록 1부터
+            next = Math.max(1, value - allocationSize + 1);
+        }
+        return next++;
+    }
+
+    // PostgreSQL: nextval('seq') / 그 외(H2 등): 표준 문법 NEXT VALUE FOR seq
+    private static String nextValueSql(JdbcTemplate jdbcTemplate, String sequenceName) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product)
+                ? "SELECT nextval('" + sequenceName + "')"
+                : "SELECT NEXT VALUE FOR " + sequenceName;
+    }
+}
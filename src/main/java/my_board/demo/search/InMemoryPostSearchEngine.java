@@ -0,0 +1,140 @@
+package my_board.demo.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import my_board.demo.dto.PostCursor;
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostSummaryDto;
+import my_board.demo.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 앱 메모리 안의 제목 역색인 검색 (post.search.engine=memory)
+ * DB 확장 기능/생성 칼럼을 쓸 수 없는 환경용. 제목만 색인하고 결과는 최신 글 순(id DESC)
+ *
+ * 1. 시작 시(ApplicationReadyEvent) 게시글 요약을 id 순으로 나눠 읽어서 색인 (본문은 읽지 않음)
+ * 2. 이후에는 PostService가 커밋 후 호출하는 onPostSaved/onPostUpdated/onPostDeleted로 증분 반영
+ * (참고) 색인은 서버마다 따로 있으므로 여러 대로 띄우면 다른 서버에서 바뀐 글은 재시작 전까지 반영되지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+    private final PostRepository postRepository;
+    private final int buildBatchSize;
+    private final TitleIndex index = new TitleIndex();
+    private final Timer buildTimer;
+
+    // 전체 색인 도중에 삭제된 글 (이미 읽어둔 배치에 들어 있어도 다시 색인하지 않도록)
+    private final Set<Long> deletedDuringBuild = ConcurrentHashMap.newKeySet();
+    // 전체 색인 도중에 제목이 수정된 글 (아직 색인 전이면 retitle이 무시되므로 색인할 때 이 제목으로 덮어씀)
+    private final Map<Long, String> retitledDuringBuild = new ConcurrentHashMap<>();
+    private volatile boolean building;
+
+    public InMemoryPostSearchEngine(PostRepository postRepository, MeterRegistry meterRegistry,
+                                    @Value("${post.search.memory.build-batch-size:1000}") int buildBatchSize) {
+        this.postRepository = postRepository;
+        this.buildBatchSize = buildBatchSize;
+
+        Gauge.builder("board.search.index.posts", index, TitleIndex::postCount)
+                .description("제목 역색인에 들어 있는 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.search.index.tokens", index, TitleIndex::tokenCount)
+                .description("제목 역색인의 토큰(n-gram) 종류 수")
+                .register(meterRegistry);
+        Gauge.builder("board.search.index.postings", index, TitleIndex::postingCount)
+                .description("제목 역색인의 포스팅 리스트 길이 합계")
+                .register(meterRegistry);
+        this.buildTimer = Timer.builder("board.search.index.build")
+                .description("시작 시 제목 역색인 전체 구축 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        building = true;
+        try {
+            long indexed = buildTimer.record(this::loadAll);
+            log.info("제목 검색 색인 완료: posts={}, tokens={}, buildTime={}ms", indexed, index.tokenCount(),
+                    (long) buildTimer.max(TimeUnit.MILLISECONDS));
+        } finally {
+            building = false;
+            deletedDuringBuild.clear();
+            retitledDuringBuild.clear();
+        }
+    }
+
+    // id 키셋으로 배치 단위 조회 -> 한 번에 전체를 메모리에 올리거나 긴 트랜잭션을 잡지 않음
+    private long loadAll() {
+        long lastId = 0L;
+        long count = 0;
+        Slice<PostSummaryDto> slice;
+        do {
+            slice = postRepository.findSummarySliceAfter(lastId, PageRequest.of(0, buildBatchSize));
+            for (PostSummaryDto post : slice.getContent()) {
+                if (!deletedDuringBuild.contains(post.getId())) {
+                    index.putIfAbsent(post);
+                    // 색인에 넣은 뒤에 확인 -> 수정이 이보다 늦으면 onPostUpdated의 retitle이 반영함
+                    String title = retitledDuringBuild.get(post.getId());
+                    if (title != null) {
+                        index.retitle(post.getId(), title);
+                    }
+                    count++;
+                }
+                lastId = post.getId();
+            }
+        } while (slice.hasNext());
+        return count;
+    }
+
+    @Override
+    public PostCursorPage search(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            return new PostCursorPage(List.of(), null, null);
+        }
+
+        long beforeId = (cursor != null) ? PostCursor.decode(cursor) : Long.MAX_VALUE;
+        List<PostSummaryDto> result = index.search(query, beforeId, size + 1); // 한 건 더 -> 다음 페이지 여부
+        if (result.size() <= size) {
+            return new PostCursorPage(result, null, null);
+        }
+        List<PostSummaryDto> page = new ArrayList<>(result.subList(0, size));
+        return new PostCursorPage(page, PostCursor.encode(page.get(size - 1).getId()), null);
+    }
+
+    @Override
+    public void onPostSaved(PostSummaryDto post) {
+        index.put(post);
+    }
+
+    @Override
+    public void onPostUpdated(Long postId, String title) {
+        if (building) {
+            retitledDuringBuild.put(postId, title);
+        }
+        index.retitle(postId, title);
+    }
+
+    @Override
+    public void onPostDeleted(Long postId) {
+        if (building) {
+            deletedDuringBuild.add(postId);
+        }
+        index.remove(postId);
+    }
+}
@@ -0,0 +1,53 @@
+package my_board.demo.search;
+
+import lombok.RequiredArgsConstructor;
+import my_board.demo.dto.PostCursor;
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostSummaryDto;
+import my_board.demo.repository.PostRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * LIKE 기반 검색 (post.search.engine=like)
+ * DB 확장 기능/전용 칼럼 없이 어떤 DB에서도 동작 (H2 등 내장 DB 테스트, 부하 테스트용)
+ * 관련도 순위는 없고 최신 글 순(id DESC) 키셋 페이징
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "like")
+public class LikePostSearchEngine implements PostSearchEngine {
+    private final PostRepository postRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPage search(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            return new PostCursorPage(List.of(), null, null);
+        }
+
+        long cursorId = (cursor != null) ? PostCursor.decode(cursor) : Long.MAX_VALUE;
+        Slice<PostSummaryDto> slice = postRepository.searchSummariesBefore(
+                toLikePattern(query.trim()), cursorId, PageRequest.of(0, size));
+
+        List<PostSummaryDto> content = slice.getContent();
+        String nextCursor = (slice.hasNext() && !content.isEmpty())
+                ? PostCursor.encode(content.get(content.size() - 1).getId())
+                : null;
+        return new PostCursorPage(content, nextCursor, null);
+    }
+
+    // 검색어의 %, _ 는 와일드카드가 아니라 글자 그대로 찾도록 이스케이프 ('!' 사용)
+    static String toLikePattern(String query) {
+        String escaped = query.toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,111 @@
+package my_board.demo.search;
+
+import java.util.Objects;
+
+/**
+ * long 키 전용 해시 맵 (오픈 어드레싱, 선형 탐사)
+ * HashMap<Long, V>와 달리 키를 박싱하지 않아서 조회할 때 객체가 만들어지지 않고, Entry 객체도 없음
+ * 동기화하지 않으므로 사용하는 쪽(TitleIndex)에서 락으로 보호해야 함
+ */
+final class LongObjectHashMap<V> {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values; // null이면 빈 슬롯
+    private int mask;
+    private int size;
+
+    LongObjectHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        if ((size + 1) * 2 > keys.length) { // 부하율 0.5를 넘으면 2배로 확장
+            resize(keys.length * 2);
+        }
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                closeGap(i);
+                size--;
+                return old;
+            }
+        }
+        return null;
+    }
+
+    // 삭제한 자리 뒤의 항목들을 당겨 채움 (tombstone 없이 탐사 체인을 유지)
+    private void closeGap(int gap) {
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            // i 위치 항목의 원래 자리(home)에서 보면 gap이 i보다 앞에 있을 때만 옮길 수 있음
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int j = slot(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    // 연속된 id/토큰이 한곳에 몰리지 않도록 섞어서 슬롯 결정
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,34 @@
+package my_board.demo.search;
+
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostSummaryDto;
+
+/**
+ * 게시글 검색 엔진
+ * 설정: post.search.engine = postgres(기본, tsvector + GIN 인덱스) / like(내장 DB 등 확장 기능이 없는 환경용)
+ *                           / memory(앱 메모리 안의 제목 역색인)
+ * 결과는 본문 없이 요약(PostSummaryDto)만 담고, 다음 페이지는 불투명한 커서로 이어서 조회 (키셋 페이징)
+ */
+public interface PostSearchEngine {
+
+    /**
+     * @param query  검색어
+     * @param cursor 이전 결과의 nextCursor (첫 페이지는 null)
+     */
+    PostCursorPage search(String query, String cursor, int size);
+
+    // --- 글 변경 알림 (PostService가 커밋 후 호출) ---
+    // DB가 직접 색인하는 엔진(postgres, like)은 할 일이 없고, 자체 색인을 가진 엔진만 구현
+
+    // 글 작성/수정
+    default void onPostSaved(PostSummaryDto post) {
+    }
+
+    // 글 수정 (조건부 UPDATE라 엔티티 없이 제목만 전달, 작성자/작성일은 바뀌지 않음)
+    default void onPostUpdated(Long postId, String title) {
+    }
+
+    // 글 삭제
+    default void onPostDeleted(Long postId) {
+    }
+}
@@ -0,0 +1,100 @@
+package my_board.demo.search;
+
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostSummaryDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * PostgreSQL 전문 검색 (post.search_vector tsvector 칼럼 + GIN 인덱스)
+ * search_vector는 title/content로부터 DB가 계산하는 생성 칼럼(GENERATED ... STORED)이라
+ * INSERT/UPDATE 때 자동으로 갱신됨 (db/migration/postgresql/V3, V4에서 생성)
+ */
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresPostSearchEngine implements PostSearchEngine {
+    // 1. 검색어와 일치하는 글을 관련도(ts_rank) 순으로, 같은 관련도는 최신 글 먼저
+    // 2. 커서가 있으면 (rank, id)가 커서보다 뒤에 있는 글만 -> OFFSET 없이 이어서 조회
+    private static final String SEARCH_SQL =
+            "SELECT r.id, r.title, r.nickname, r.created_date, r.rank FROM (" +
+            "  SELECT p.id, p.title, m.nickname, p.created_date, ts_rank(p.search_vector, q.query) AS rank" +
+            "  FROM post p" +
+            "  LEFT JOIN member m ON m.id = p.member_id" +
+            "  CROSS JOIN to_tsquery('simple', :tsquery) AS q(query)" +
+            "  WHERE p.search_vector @@ q.query" +
+            ") r ";
+    private static final String CURSOR_CONDITION =
+            "WHERE r.rank < CAST(:rank AS real) OR (r.rank = CAST(:rank AS real) AND r.id < :id) ";
+    private static final String ORDER_AND_LIMIT = "ORDER BY r.rank DESC, r.id DESC LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresPostSearchEngine(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPage search(String query, String cursor, int size) {
+        String tsquery = toPrefixTsQuery(query);
+        if (tsquery.isEmpty()) {
+            return new PostCursorPage(List.of(), null, null);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tsquery", tsquery)
+                .addValue("limit", size + 1); // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        String sql = SEARCH_SQL;
+        if (cursor != null) {
+            SearchRankCursor position = SearchRankCursor.decode(cursor);
+            params.addValue("rank", position.rank()).addValue("id", position.id());
+            sql += CURSOR_CONDITION;
+        }
+        sql += ORDER_AND_LIMIT;
+
+        List<PostSummaryDto> content = new ArrayList<>(size + 1);
+        List<Float> ranks = new ArrayList<>(size + 1);
+        jdbcTemplate.query(sql, params, rs -> {
+            content.add(new PostSummaryDto(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("nickname"),
+                    rs.getTimestamp("created_date") != null ? rs.getTimestamp("created_date").toLocalDateTime() : null));
+            ranks.add(rs.getFloat("rank"));
+        });
+
+        if (content.size() <= size) {
+            return new PostCursorPage(content, null, null);
+        }
+        List<PostSummaryDto> page = content.subList(0, size);
+        PostSummaryDto last = page.get(size - 1);
+        String nextCursor = new SearchRankCursor(ranks.get(size - 1), last.getId()).encode();
+        return new PostCursorPage(new ArrayList<>(page), nextCursor, null);
+    }
+
+    /**
+     * 사용자 입력 -> tsquery 문자열
+     * 각 단어를 접두어 검색(:*)으로 바꾸고 AND(&)로 묶음 (예: "게시판 성능" -> "게시판:* & 성능:*")
+     * 한국어는 조사가 붙어서 저장되므로("게시판에서") 접두어 검색이 필요하고,
+     * tsquery 연산자 문자는 모두 제거해서 문법 오류를 막음
+     */
+    static String toPrefixTsQuery(String query) {
+        StringJoiner joiner = new StringJoiner(" & ");
+        if (query != null) {
+            for (String word : query.trim().split("\\s+")) {
+                String term = word.replaceAll("[^\\p{L}\\p{N}]", "");
+                if (!term.isEmpty()) {
+                    joiner.add(term + ":*");
+                }
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package my_board.demo.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 포스팅 리스트 (해당 토큰이 제목에 들어간 게시글 id 목록)
+ * id를 long[]에 오름차순으로 유지 -> 교집합 확인은 이진 탐색, 최신 글 순 조회는 뒤에서부터 순회
+ * 새 글은 항상 가장 큰 id라서 대부분 배열 끝에 추가됨
+ */
+final class PostingList {
+    private long[] ids = new long[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    // 추가되었으면 true (이미 있으면 false)
+    boolean add(long id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return true;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        ids[pos] = id;
+        size++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    // id보다 작은 값 중 가장 큰 값의 위치 (없으면 -1) -> 커서 다음부터 역순 순회할 때 시작점
+    int lastIndexBefore(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        return (pos >= 0 ? pos : -pos - 1) - 1;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+    }
+}
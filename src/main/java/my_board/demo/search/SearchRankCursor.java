@@ -0,0 +1,30 @@
+package my_board.demo.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 관련도 순 검색 결과의 이어보기 커서 (rank DESC, id DESC 기준 마지막 위치)
+ * rank는 float 그대로 문자열로 담아서 DB 값과 정확히 같은 값으로 비교할 수 있도록 함
+ */
+record SearchRankCursor(float rank, long id) {
+    private static final String PREFIX = "s:";
+
+    String encode() {
+        byte[] raw = (PREFIX + rank + ":" + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static SearchRankCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            return new SearchRankCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
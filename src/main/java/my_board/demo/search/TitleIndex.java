@@ -0,0 +1,285 @@
+package my_board.demo.search;
+
+import my_board.demo.dto.PostSummaryDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 역색인 (토큰 -> 포스팅 리스트)
+ *
+ * 토큰화: 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 단어를 나누고, 각 단어의 1-gram과 2-gram을 색인
+ * - 한국어는 조사가 붙어서 쓰이므로("게시판에서") 단어 단위가 아니라 음절 n-gram으로 색인해야 부분 검색이 가능
+ * - 검색어는 2-gram(한 글자 단어는 1-gram)으로 후보를 좁힌 뒤, 제목에 검색어가 실제로 들어있는지 확인해서 오탐 제거
+ * 토큰은 long 하나로 표현 (1-gram: 글자 코드, 2-gram: 두 글자 코드를 이어 붙이고 구분 비트 추가)
+ *
+ * 검색은 읽기 락, 추가/수정/삭제는 쓰기 락 (검색이 훨씬 많고 쓰기는 드묾)
+ */
+final class TitleIndex {
+    private static final long BIGRAM_FLAG = 1L << 32;
+
+    private final LongObjectHashMap<PostingList> postings = new LongObjectHashMap<>();
+    private final LongObjectHashMap<IndexedPost> posts = new LongObjectHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long postingCount; // 모든 포스팅 리스트 길이의 합
+
+    // 색인된 글 하나 (삭제/수정 시 다시 토큰화하지 않도록 토큰도 같이 보관)
+    private record IndexedPost(PostSummaryDto summary, String normalizedTitle, long[] tokens) {
+        boolean matches(String[] words) {
+            for (String word : words) {
+                if (!normalizedTitle.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 글 추가 또는 교체 (수정된 글은 이전 제목의 토큰을 지우고 다시 색인)
+     */
+    void put(PostSummaryDto post) {
+        IndexedPost indexed = toIndexedPost(post);
+        lock.writeLock().lock();
+        try {
+            removeLocked(post.getId());
+            addLocked(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 글만 추가 (시작 시 전체 색인용 - 그 사이 들어온 최신 변경을 덮어쓰지 않음)
+     */
+    void putIfAbsent(PostSummaryDto post) {
+        IndexedPost indexed = toIndexedPost(post);
+        lock.writeLock().lock();
+        try {
+            if (posts.get(post.getId()) == null) {
+                addLocked(indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목만 바뀐 글을 다시 색인 (작성자/작성일은 색인에 있던 값 유지, 색인에 없는 글은 무시)
+     * 전체 색인 도중의 수정은 InMemoryPostSearchEngine이 따로 기억했다가 색인할 때 반영
+     */
+    void retitle(long postId, String title) {
+        lock.writeLock().lock();
+        try {
+            IndexedPost old = posts.get(postId);
+            if (old == null) {
+                return;
+            }
+            PostSummaryDto summary = old.summary();
+            removeLocked(postId);
+            addLocked(toIndexedPost(new PostSummaryDto(postId, title, summary.getAuthorNickname(), summary.getCreatedDate())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목에 검색어의 모든 단어가 들어간 글을 최신 순(id DESC)으로 최대 limit개
+     * @param beforeId 이 id보다 작은 글만 (첫 페이지는 Long.MAX_VALUE)
+     */
+    List<PostSummaryDto> search(String query, long beforeId, int limit) {
+        String[] words = words(query.toLowerCase(Locale.ROOT));
+        long[] queryTokens = queryTokens(words);
+        if (queryTokens.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 1. 검색어 토큰의 포스팅 리스트를 모으고, 하나라도 없으면 결과 없음
+            PostingList[] lists = new PostingList[queryTokens.length];
+            int shortest = 0;
+            for (int i = 0; i < queryTokens.length; i++) {
+                lists[i] = postings.get(queryTokens[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+                if (lists[i].size() < lists[shortest].size()) {
+                    shortest = i;
+                }
+            }
+
+            // 2. 가장 짧은 리스트를 커서 위치부터 역순으로 돌면서 나머지 리스트에도 있는지 이진 탐색
+            PostingList driver = lists[shortest];
+            List<PostSummaryDto> result = new ArrayList<>(Math.min(limit, driver.size()));
+            for (int i = driver.lastIndexBefore(beforeId); i >= 0 && result.size() < limit; i--) {
+                long id = driver.get(i);
+                if (containsAll(lists, shortest, id)) {
+                    // 3. n-gram이 모두 있어도 순서가 다를 수 있으므로 실제 부분 문자열인지 확인
+                    IndexedPost post = posts.get(id);
+                    if (post != null && post.matches(words)) {
+                        result.add(post.summary());
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int postCount() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(IndexedPost post) {
+        long id = post.summary().getId();
+        posts.put(id, post);
+        for (long token : post.tokens()) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                list = new PostingList();
+                postings.put(token, list);
+            }
+            if (list.add(id)) {
+                postingCount++;
+            }
+        }
+    }
+
+    private void removeLocked(long id) {
+        IndexedPost old = posts.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (long token : old.tokens()) {
+            PostingList list = postings.get(token);
+            if (list != null && list.remove(id)) {
+                postingCount--;
+                if (list.size() == 0) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(PostingList[] lists, int skip, long id) {
+        for (int i = 0; i < lists.length; i++) {
+            if (i != skip && !lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static IndexedPost toIndexedPost(PostSummaryDto post) {
+        String normalized = (post.getTitle() != null) ? post.getTitle().toLowerCase(Locale.ROOT) : "";
+        return new IndexedPost(post, normalized, titleTokens(normalized));
+    }
+
+    // 색인용: 각 단어의 1-gram + 2-gram (중복 제거, 정렬)
+    static long[] titleTokens(String normalizedTitle) {
+        String[] words = words(normalizedTitle);
+        int max = 0;
+        for (String word : words) {
+            max += word.length() * 2 - 1;
+        }
+        long[] tokens = new long[max];
+        int n = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens[n++] = unigram(word.charAt(i));
+                if (i + 1 < word.length()) {
+                    tokens[n++] = bigram(word.charAt(i), word.charAt(i + 1));
+                }
+            }
+        }
+        Arrays.sort(tokens, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || tokens[unique - 1] != tokens[i]) {
+                tokens[unique++] = tokens[i];
+            }
+        }
+        return Arrays.copyOf(tokens, unique);
+    }
+
+    // 검색용: 한 글자 단어는 1-gram, 나머지는 2-gram만 사용 (1-gram 리스트는 길어서 후보를 잘 못 좁힘)
+    static long[] queryTokens(String[] words) {
+        int max = 0;
+        for (String word : words) {
+            max += Math.max(1, word.length() - 1);
+        }
+        long[] tokens = new long[max];
+        int n = 0;
+        for (String word : words) {
+            if (word.length() == 1) {
+                tokens[n++] = unigram(word.charAt(0));
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens[n++] = bigram(word.charAt(i), word.charAt(i + 1));
+            }
+        }
+        return tokens;
+    }
+
+    // 글자/숫자가 아닌 문자(공백, 문장부호 등)를 기준으로 단어 분리
+    static String[] words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static long unigram(char c) {
+        return c;
+    }
+
+    private static long bigram(char first, char second) {
+        return BIGRAM_FLAG | ((long) first << 16) | second;
+    }
+}
@@ -0,0 +1,99 @@
+package my_board.demo.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - 동시에 해시를 계산하는 스레드 수를 제한해서, 로그인 폭주가 CPU를 전부 써서 페이지 렌더링이 멈추는 것을 방지
+ * - 대기열이 가득 차면 기다리지 않고 PasswordHashingRejectedException(429)으로 바로 거절
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int concurrency, int queueLimit, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueLimit),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("board.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("board.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        Gauge.builder("board.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 계산을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("board.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 계산 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해시 계산이 없는 판단이므로 호출한 스레드에서 바로 처리
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import my_board.demo.config.RequestTimings;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
@@ -22,11 +23,14 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         // 1. Request 쿠키에서 JWT 토큰 추출
         String token = resolveToken((HttpServletRequest) request);
 
-        // 2. 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 2. 토큰 유효성 검사 + Authentication 생성 (한 번만 파싱, 검증된 토큰은 캐시에서 바로 꺼냄)
+        if (token != null) {
+            Authentication authentication = RequestTimings.time(RequestTimings.Phase.JWT,
+                    () -> jwtTokenProvider.resolveAuthentication(token));
+            // 토큰이 유효할 경우 Authentication 객체를 SecurityContext에 저장
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         // 3. 다음 필터로 진행
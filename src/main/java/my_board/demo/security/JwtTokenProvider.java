@@ -1,5 +1,8 @@
 package my_board.demo.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,25 +12,45 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String NICKNAME_CLAIM = "nick";
+
     private final Key key;
+    private final JwtParser jwtParser; // 파서는 thread-safe하므로 한 번만 만들어서 재사용
+
+    // 이미 서명 검증을 마친 토큰 캐시 (key: 토큰의 SHA-256 해시, 토큰의 exp 시각에 만료)
+    // 같은 세션의 반복 요청은 HMAC 검증과 JSON 파싱을 건너뜀. 0이면 캐시 사용 안 함
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     // application.properties에서 jwt.secret 값을 가져와서 비밀키로 설정
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
         byte[] keyBytes = io.jsonwebtoken.io.Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = (verifiedCacheSize > 0)
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new TokenExpiry())
+                        .build()
+                : null;
     }
 
     // 1. 토큰 생성 (로그인 성공 시 호출)
@@ -41,10 +64,18 @@ public class JwtTokenProvider {
 
         // Access Token 생성 (유효기간 1일)
         Date accessTokenExpiresIn = new Date(now + 86400000); // 24 * 60 * 60 * 1000
-        String accessToken = Jwts.builder()
+        JwtBuilder accessTokenBuilder = Jwts.builder()
                 .setSubject(authentication.getName())
                 .claim("auth", authorities)
-                .setExpiration(accessTokenExpiresIn)
+                .setExpiration(accessTokenExpiresIn);
+
+        // 화면 렌더링에 필요한 회원 id, 닉네임을 클레임에 담아서 매 요청 DB 조회를 없앰
+        if (authentication.getPrincipal() instanceof LoginMember loginMember) {
+            accessTokenBuilder.claim(MEMBER_ID_CLAIM, loginMember.getId())
+                    .claim(NICKNAME_CLAIM, loginMember.getNickname());
+        }
+
+        String accessToken = accessTokenBuilder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
@@ -65,27 +96,51 @@ public class JwtTokenProvider {
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
         Claims claims = parseClaims(accessToken);
+        return toAuthentication(createPrincipal(claims));
+    }
 
-        if (claims.get("auth") == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
-        }
+    // 3. 토큰 유효성 검증
+    public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+    /**
+     * 필터용: 토큰 검증 + 인증 정보 생성을 한 번의 파싱으로 처리
+     * (validateToken -> getAuthentication 순서로 부르면 같은 토큰을 두 번 파싱/서명 검증함)
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        if (verifiedTokens == null) {
+            Claims claims = verify(token);
+            return (claims != null) ? toAuthentication(createPrincipal(claims)) : null;
+        }
 
-        // UserDetails 객체를 만들어서 Authentication 리턴
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        String cacheKey = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(cacheKey);
+        if (verified == null) {
+            Claims claims = verify(token);
+            if (claims == null) {
+                return null;
+            }
+            if (claims.getExpiration() == null) { // 만료 시각이 없는 토큰은 캐시하지 않음
+                return toAuthentication(createPrincipal(claims));
+            }
+            verified = new VerifiedToken(createPrincipal(claims), claims.getExpiration().getTime());
+            verifiedTokens.put(cacheKey, verified);
+        }
+        // Authentication 객체는 요청마다 새로 만들어서 요청 간에 상태를 공유하지 않도록 함
+        return toAuthentication(verified.principal());
     }
 
-    // 3. 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    // 서명/만료 검증 후 클레임 반환 (실패 시 로그를 남기고 null)
+    private Claims verify(String token) {
         try {
-            getJwtParser().parseClaimsJws(token); // 추출한 파서 사용
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.get("auth") == null) {
+                log.info("권한 정보가 없는 토큰입니다.");
+                return null;
+            }
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -95,18 +150,72 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    private LoginMember createPrincipal(Claims claims) {
+        if (claims.get("auth") == null) {
+            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+        }
+
+        // 클레임에서 권한 정보 가져오기
+        Collection<? extends GrantedAuthority> authorities =
+                Arrays.stream(claims.get("auth").toString().split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+
+        // 토큰에 담긴 정보만으로 principal(LoginMember)을 만듦 (DB 조회 없음)
+        // (예전에 발급된 토큰에는 id/닉네임 클레임이 없을 수 있음 -> null)
+        return new LoginMember(
+                claims.get(MEMBER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                "",
+                claims.get(NICKNAME_CLAIM, String.class),
+                authorities);
     }
 
-    private JwtParser getJwtParser() {
-        return Jwts.parserBuilder().setSigningKey(key).build();
+    private Authentication toAuthentication(UserDetails principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return getJwtParser().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    // 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용 (메모리에 토큰 원문을 들고 있지 않도록)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 검증이 끝난 토큰 정보 (principal + 만료 시각)
+    private record VerifiedToken(LoginMember principal, long expiresAtMillis) {
+    }
+
+    // 캐시 항목이 토큰의 exp 시각에 정확히 만료되도록 설정
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration; // 읽어도 만료 시각은 그대로
+        }
+    }
 }
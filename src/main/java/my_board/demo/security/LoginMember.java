@@ -0,0 +1,30 @@
+package my_board.demo.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext의 principal)
+ * 로그인 시 DB에서 만든 값을 JWT 클레임에 담아두고, 이후 요청에서는 토큰만으로 다시 만들어 씀
+ * -> 화면에 닉네임을 보여주려고 매 요청마다 Member를 조회할 필요가 없음
+ */
+@Getter
+public class LoginMember extends User {
+    private final Long id;          // Member PK
+    private final String nickname;  // 화면 표시용 닉네임
+
+    public LoginMember(Long id, String loginId, String password, String nickname,
+                       Collection<? extends GrantedAuthority> authorities) {
+        super(loginId, password, authorities);
+        this.id = id;
+        this.nickname = nickname;
+    }
+
+    // 템플릿(loginMember.loginId)과 Member 엔티티와 같은 이름으로 쓰기 위한 별칭
+    public String getLoginId() {
+        return getUsername();
+    }
+}
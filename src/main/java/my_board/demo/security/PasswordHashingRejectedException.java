@@ -0,0 +1,14 @@
+package my_board.demo.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 대기열이 가득 찼을 때 발생 (로그인/회원가입 폭주 시 바로 429로 응답)
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
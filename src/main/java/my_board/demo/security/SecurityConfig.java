@@ -1,6 +1,8 @@
 package my_board.demo.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -8,10 +10,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -31,8 +36,15 @@ public class SecurityConfig {
 
                 // 3. 요청별 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        // 로그인, 회원가입, 메인 페이지, 정적 리소스는 누구나 접근 가능
-                        .requestMatchers("/", "/members/login", "/members/join", "/css/**", "/images/**", "/js/**", "/favicon.ico").permitAll()
+                        // 로그인, 회원가입, 작성자별 글 목록, 메인 페이지, 정적 리소스는 누구나 접근 가능
+                        .requestMatchers("/", "/members/login", "/members/join", "/members/*/posts", "/css/**", "/images/**", "/js/**", "/favicon.ico").permitAll()
+                        // 에러 응답(429 등)이 인증 실패(403)로 바뀌지 않도록 에러 페이지도 허용
+                        .requestMatchers("/error").permitAll()
+                        // 일괄 가져오기/내보내기는 관리자(board.admin.login-ids)만
+                        // (가져오기는 글마다 작성자를 지정할 수 있고, 내보내기는 전체 글을 내려받음)
+                        .requestMatchers("/posts/bulk/**").hasRole("ADMIN")
+                        // 느린 요청 목록에는 요청 URI(회원 loginId 등)가 그대로 남으므로 관리자만
+                        .requestMatchers("/actuator/slowrequests/**").hasRole("ADMIN")
                         // 게시글 목록 보기(GET /posts)도 누구나 접근 가능 (상세 보기도 포함)
                         .requestMatchers("/posts/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
@@ -54,8 +66,27 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        // 비밀번호 암호화 (BCrypt 등 자동 설정)
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hash.bcrypt-strength:10}") int bcryptStrength,
+                                           @Value("${password.hash.concurrency:0}") int concurrency,
+                                           @Value("${password.hash.queue-limit:64}") int queueLimit,
+                                           MeterRegistry meterRegistry) {
+        // 동시 해시 계산 수 (0이면 CPU 코어의 절반)
+        int threads = (concurrency > 0) ? concurrency : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // 비밀번호 암호화 (BCrypt) - 요청 스레드가 아닌 전용 스레드 풀에서 계산
+        return new BoundedPasswordEncoder(createDelegatingPasswordEncoder(bcryptStrength), threads, queueLimit, meterRegistry);
+    }
+
+    /**
+     * {bcrypt} 기본 DelegatingPasswordEncoder (cost 조절 가능)
+     * - 새 비밀번호는 설정한 cost로 암호화
+     * - 저장된 해시의 cost가 설정과 다르면 upgradeEncoding=true -> 로그인 성공 시 새 cost로 다시 저장
+     *   (CustomUserDetailsService.updatePassword)
+     * - bcrypt가 아닌 예전 형식({noop}, {pbkdf2} 등)도 검증은 가능하고, 로그인 시 bcrypt로 바뀜
+     */
+    public static PasswordEncoder createDelegatingPasswordEncoder(int bcryptStrength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new TunableBCryptPasswordEncoder(bcryptStrength)));
+        encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return encoder;
     }
 }
@@ -0,0 +1,29 @@
+package my_board.demo.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 저장된 해시의 cost가 설정값과 "다르면" 재해시 대상으로 판단하는 BCrypt 인코더
+ * (기본 BCryptPasswordEncoder는 cost가 낮을 때만 올리므로, cost를 낮춰서 CPU를 아끼는 방향은 지원하지 않음)
+ */
+public class TunableBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private final int strength;
+
+    public TunableBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 형식: $2a$10$<salt+hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return super.upgradeEncoding(encodedPassword);
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return super.upgradeEncoding(encodedPassword);
+        }
+    }
+}
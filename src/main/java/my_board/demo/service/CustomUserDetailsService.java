@@ -1,34 +1,64 @@
 package my_board.demo.service;
 
 import lombok.RequiredArgsConstructor;
+import my_board.demo.config.RequestTimings;
 import my_board.demo.domain.Member;
 import my_board.demo.repository.MemberRepository;
-import org.springframework.security.core.userdetails.User;
+import my_board.demo.security.LoginMember;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final MemberRepository memberRepository;
 
+    // 관리자 권한(ROLE_ADMIN)을 줄 로그인 ID 목록 (일괄 가져오기/내보내기, 느린 요청 조회 등 운영용 API)
+    @Value("${board.admin.login-ids:}")
+    private Set<String> adminLoginIds;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return memberRepository.findByLoginId(username)
+        return RequestTimings.time(RequestTimings.Phase.MEMBER, () -> memberRepository.findByLoginId(username))
                 .map(this::createUserDetails)
                 .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저를 찾을 수 없습니다."));
     }
 
-    // DB에 있는 Member 정보를 Spring Security의 User 객체로 변환
+    /**
+     * 로그인 성공 시 저장된 해시가 현재 설정(cost)과 다르면 Spring Security가 호출
+     * 방금 검증한 평문 비밀번호를 새 설정으로 다시 해시한 값을 저장 (사용자는 알아챌 수 없음)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByLoginId(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저를 찾을 수 없습니다."));
+        member.setPassword(newPassword);
+        return createUserDetails(member);
+    }
+
+    // DB에 있는 Member 정보를 Spring Security의 User 객체(LoginMember)로 변환
+    // id, 닉네임까지 담아두면 JwtTokenProvider가 토큰 클레임으로 옮겨 담음
     private UserDetails createUserDetails(Member member) {
-        return User.builder()
-                .username(member.getLoginId())
-                .password(member.getPassword())
-                .roles("USER") // 기본 권한
-                .build();
+        return new LoginMember(
+                member.getId(),
+                member.getLoginId(),
+                member.getPassword(),
+                member.getNickname(),
+                adminLoginIds.contains(member.getLoginId()) ? ADMIN_AUTHORITIES : USER_AUTHORITIES); // 기본 권한 + 관리자
     }
 }
@@ -0,0 +1,100 @@
+package my_board.demo.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 슬라이딩 윈도우 + 지수 감쇠 점수 (게시글 id -> 점수)
+ *
+ * 점수 = 윈도우 안의 활동마다 2^(-(현재 - 활동 시각) / 반감기)를 더한 값
+ * 매번 전체를 다시 계산하지 않도록 "전방 감쇠(forward decay)"로 증분 갱신
+ * 1. 활동은 기준 시각(landmark) 대비 2^((활동 시각 - landmark) / 반감기)로 저장 -> 시간이 지나도 저장된 값은 그대로
+ *    (모든 글에 같은 배율이 곱해지는 것이라 순위는 현재 기준으로 감쇠한 것과 같음)
+ * 2. 버킷이 닫힐 때 더하고, 윈도우 밖으로 밀려날 때 같은 값을 뺌
+ * 3. 값이 너무 커지지 않도록 가끔 landmark를 현재로 옮기고 전체에 같은 비율을 곱함
+ *
+ * 동기화하지 않음 (HotPostService의 갱신 스케줄러 한 스레드에서만 사용)
+ */
+final class DecayedWindowScores {
+    private final long windowMillis;
+    private final double halfLifeMillis;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final ArrayDeque<ClosedBucket> buckets = new ArrayDeque<>(); // 윈도우 안의 닫힌 버킷 (오래된 순)
+    private long landmark;
+
+    private record ClosedBucket(long start, Map<Long, Long> counts) {
+    }
+
+    DecayedWindowScores(Duration window, Duration halfLife, long now) {
+        this.windowMillis = window.toMillis();
+        this.halfLifeMillis = halfLife.toMillis();
+        this.landmark = now;
+    }
+
+    // 닫힌 버킷 하나를 점수에 반영 (start: 버킷 시작 시각)
+    void add(long start, Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        double weight = weight(start);
+        counts.forEach((postId, count) -> scores.merge(postId, count * weight, Double::sum));
+        buckets.addLast(new ClosedBucket(start, counts));
+    }
+
+    // 윈도우 밖으로 밀려난 버킷의 점수를 빼고, 필요하면 landmark를 옮김
+    void expire(long now) {
+        long windowStart = now - windowMillis;
+        while (!buckets.isEmpty() && buckets.peekFirst().start() < windowStart) {
+            ClosedBucket old = buckets.pollFirst();
+            double weight = weight(old.start());
+            old.counts().forEach((postId, count) -> scores.computeIfPresent(postId, (id, score) -> score - count * weight));
+        }
+
+        // 윈도우 맨 앞에서 활동 1건의 점수의 절반보다 작은 값은 뺄셈에서 남은 부동소수점 오차 -> 제거
+        double residue = weight(windowStart) / 2;
+        scores.values().removeIf(score -> score < residue);
+
+        if (now - landmark > windowMillis) {
+            rebase(now);
+        }
+    }
+
+    // 점수 상위 limit개의 게시글 id (점수 높은 순) -> 현재 시각 기준으로 감쇠한 점수와 함께
+    List<Map.Entry<Long, Double>> top(int limit, long now) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll(); // 가장 낮은 점수 제거 -> 힙에는 항상 상위 limit개만 남음
+            }
+        }
+
+        double toNow = 1 / weight(now);
+        List<Map.Entry<Long, Double>> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, Double> entry = heap.poll();
+            result.add(0, Map.entry(entry.getKey(), entry.getValue() * toNow));
+        }
+        return result;
+    }
+
+    int size() {
+        return scores.size();
+    }
+
+    private double weight(long time) {
+        return Math.pow(2, (time - landmark) / halfLifeMillis);
+    }
+
+    private void rebase(long now) {
+        double factor = 1 / weight(now);
+        scores.replaceAll((postId, score) -> score * factor);
+        landmark = now; // 버킷에는 횟수만 있으므로 뺄 때 새 landmark 기준으로 다시 계산됨
+    }
+}
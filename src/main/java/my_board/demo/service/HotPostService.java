@@ -0,0 +1,180 @@
+package my_board.demo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import my_board.demo.dto.HotPostDto;
+import my_board.demo.dto.PostSummaryDto;
+import my_board.demo.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 글 (최근 1시간 / 1일 활동 기준)
+ * 1. 상세 조회, 글 수정이 일어나면 현재 버킷(post.hot.bucket-seconds 단위)의 게시글별 카운터만 증가 (DB 접근 없음)
+ * 2. 버킷이 끝날 때마다 윈도우별 감쇠 점수(DecayedWindowScores)에 반영하고 상위 글 스냅샷을 새로 만듦
+ * 3. 요청에서는 미리 만든 스냅샷만 읽음 -> 요청마다 DB 쿼리 없음 (최대 버킷 하나만큼 늦게 반영됨)
+ * (참고) 서버마다 자기가 받은 요청만 집계함
+ */
+@Service
+public class HotPostService {
+    private static final long VIEW_WEIGHT = 1;
+    private static final long EDIT_WEIGHT = 3; // 수정은 조회보다 드물고 작성자의 관심이 큰 활동이라 가중치를 높게
+
+    public enum Window {
+        HOUR(Duration.ofHours(1), Duration.ofMinutes(15)),
+        DAY(Duration.ofDays(1), Duration.ofHours(4));
+
+        private final Duration length;
+        private final Duration halfLife; // 이 시간이 지나면 점수가 절반
+
+        Window(Duration length, Duration halfLife) {
+            this.length = length;
+            this.halfLife = halfLife;
+        }
+
+        // 요청 파라미터(hour/day) -> Window
+        public static Window from(String value) {
+            for (Window window : values()) {
+                if (window.name().equalsIgnoreCase(value)) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 기간입니다. window=" + value);
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final int limit;
+
+    // 현재 수집 중인 버킷 (교체는 갱신 스레드만, 증가는 요청 스레드에서 동시에)
+    private volatile ConcurrentHashMap<Long, LongAdder> currentBucket = new ConcurrentHashMap<>();
+    private volatile long currentBucketStart = System.currentTimeMillis();
+
+    private final Map<Window, DecayedWindowScores> scores = new EnumMap<>(Window.class);
+    private volatile Map<Window, List<HotPostDto>> snapshot = emptySnapshot();
+    // 스냅샷의 글 목록(순서 포함)이 바뀔 때만 올라가는 버전 (목록 화면 ETag용)
+    private volatile long snapshotVersion;
+
+    public HotPostService(PostRepository postRepository, MeterRegistry meterRegistry,
+                          @Value("${post.hot.limit:10}") int limit) {
+        this.postRepository = postRepository;
+        this.limit = limit;
+        for (Window window : Window.values()) {
+            DecayedWindowScores windowScores = new DecayedWindowScores(window.length, window.halfLife, currentBucketStart);
+            scores.put(window, windowScores);
+            Gauge.builder("board.posts.hot.tracked", windowScores, DecayedWindowScores::size)
+                    .tag("window", window.name().toLowerCase())
+                    .description("인기 글 점수를 가진 게시글 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    public void recordView(Long postId) {
+        record(postId, VIEW_WEIGHT);
+    }
+
+    public void recordEdit(Long postId) {
+        record(postId, EDIT_WEIGHT);
+    }
+
+    private void record(Long postId, long weight) {
+        currentBucket.computeIfAbsent(postId, id -> new LongAdder()).add(weight);
+    }
+
+    // 미리 만들어 둔 스냅샷 (DB 조회 없음)
+    public List<HotPostDto> getHotPosts(Window window) {
+        return snapshot.get(window);
+    }
+
+    public long getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    /**
+     * 현재 버킷을 닫고 윈도우 점수와 스냅샷을 갱신
+     */
+    @Scheduled(fixedRateString = "${post.hot.bucket-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+
+        // 1. 새 버킷으로 교체한 뒤 닫힌 버킷의 합계를 읽음
+        ConcurrentHashMap<Long, LongAdder> closed = currentBucket;
+        long closedStart = currentBucketStart;
+        currentBucket = new ConcurrentHashMap<>();
+        currentBucketStart = now;
+        Map<Long, Long> counts = new HashMap<>(closed.size() * 2);
+        closed.forEach((postId, adder) -> counts.put(postId, adder.sum()));
+
+        // 2. 윈도우별 점수 반영 + 오래된 버킷 제거 + 상위 글 선택
+        Map<Window, List<Map.Entry<Long, Double>>> top = new EnumMap<>(Window.class);
+        Set<Long> postIds = new HashSet<>();
+        for (Window window : Window.values()) {
+            DecayedWindowScores windowScores = scores.get(window);
+            windowScores.add(closedStart, counts);
+            windowScores.expire(now);
+            List<Map.Entry<Long, Double>> entries = windowScores.top(limit, now);
+            entries.forEach(entry -> postIds.add(entry.getKey()));
+            top.put(window, entries);
+        }
+
+        // 3. 제목/작성자는 갱신할 때 한 번에 조회 (삭제된 글은 여기서 빠짐)
+        Map<Long, PostSummaryDto> posts = postIds.isEmpty() ? Map.of()
+                : postRepository.findSummariesByIdIn(postIds).stream()
+                        .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+
+        Map<Window, List<HotPostDto>> next = new EnumMap<>(Window.class);
+        top.forEach((window, entries) -> {
+            List<HotPostDto> hotPosts = new ArrayList<>(entries.size());
+            for (Map.Entry<Long, Double> entry : entries) {
+                PostSummaryDto post = posts.get(entry.getKey());
+                if (post != null) {
+                    hotPosts.add(new HotPostDto(post, entry.getValue()));
+                }
+            }
+            next.put(window, List.copyOf(hotPosts));
+        });
+        if (!sameIds(snapshot, next)) {
+            snapshotVersion++; // refresh()는 synchronized라 갱신 스레드 하나만 씀
+        }
+        snapshot = next;
+    }
+
+    private static boolean sameIds(Map<Window, List<HotPostDto>> a, Map<Window, List<HotPostDto>> b) {
+        for (Window window : Window.values()) {
+            List<HotPostDto> x = a.get(window);
+            List<HotPostDto> y = b.get(window);
+            if (x.size() != y.size()) {
+                return false;
+            }
+            for (int i = 0; i < x.size(); i++) {
+                if (!x.get(i).getId().equals(y.get(i).getId())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Map<Window, List<HotPostDto>> emptySnapshot() {
+        Map<Window, List<HotPostDto>> empty = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+}
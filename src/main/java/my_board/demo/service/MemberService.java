@@ -1,10 +1,12 @@
 package my_board.demo.service;
 
 import lombok.RequiredArgsConstructor;
+import my_board.demo.config.RequestTimings;
 import my_board.demo.domain.Member;
 import my_board.demo.dto.TokenInfo;
 import my_board.demo.repository.MemberRepository;
 import my_board.demo.security.JwtTokenProvider;
+import my_board.demo.security.PasswordHashingRejectedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -51,12 +53,24 @@ public class MemberService {
 
             // 3. 인증 정보를 기반으로 JWT 토큰 생성
             return jwtTokenProvider.generateToken(authentication);
+        } catch (PasswordHashingRejectedException e) {
+            // 해시 대기열이 가득 참 -> 로그인 실패가 아니라 429로 응답해야 하므로 그대로 던짐
+            throw e;
         } catch (Exception e) {
             // 로그인 실패 시 null 반환 (Controller에서 처리)
             return null;
         }
     }
 
+    /**
+     * loginId로 회원 조회 (작성자별 글 목록 등)
+     */
+    @Transactional(readOnly = true)
+    public Member findByLoginId(String loginId) {
+        return RequestTimings.time(RequestTimings.Phase.MEMBER, () -> memberRepository.findByLoginId(loginId))
+                .orElseThrow(() -> new IllegalArgumentException("해당 아이디의 유저가 없습니다. id=" + loginId));
+    }
+
     // 중복 회원 검증 로직
     private void validateDuplicateMember(Member member) {
         memberRepository.findByLoginId(member.getLoginId())
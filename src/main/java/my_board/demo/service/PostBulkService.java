@@ -0,0 +1,274 @@
+package my_board.demo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import my_board.demo.cache.PostVersionRegistry;
+import my_board.demo.domain.Member;
+import my_board.demo.domain.Post;
+import my_board.demo.dto.PostBulkLine;
+import my_board.demo.dto.PostImportResult;
+import my_board.demo.repository.MemberRepository;
+import my_board.demo.repository.SequenceIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 일괄 가져오기/내보내기 (NDJSON)
+ * 가져오기: 한 줄씩 읽어서 batch-size개마다 작성자를 IN 쿼리 한 번으로 찾고, JDBC 배치 INSERT (배치마다 커밋)
+ * 내보내기: 서버 측 커서(fetchSize)로 한 행씩 읽어서 바로 응답에 씀 -> 글이 수백만 개여도 메모리 사용량이 일정
+ * id는 JDBC로 넣어도 엔티티와 겹치지 않도록 같은 시퀀스에서 발급 (SequenceIdAllocator)
+ * (참고) JPA(PostService.save)를 거치지 않으므로 memory 검색 색인에는 재시작 시 반영됨
+ */
+@Slf4j
+@Service
+public class PostBulkService {
+    private static final String INSERT_SQL =
+            "INSERT INTO post (id, title, content, member_id, created_date, modified_date, views) VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String EXPORT_SQL =
+            "SELECT p.id, p.title, p.content, m.login_id, p.created_date, p.modified_date " +
+            "FROM post p LEFT JOIN member m ON m.id = p.member_id ORDER BY p.id";
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final MemberRepository memberRepository;
+    private final PostCountService postCountService;
+    private final PostVersionRegistry postVersionRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate; // fetchSize를 지정한 내보내기 전용
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectReader lineReader;
+    private final ObjectWriter lineWriter;
+    private final int batchSize;
+
+    private final Counter importedRows;
+    private final Counter exportedRows;
+    private final Timer importTimer;
+    private final Timer exportTimer;
+
+    public PostBulkService(MemberRepository memberRepository, PostCountService postCountService,
+                           PostVersionRegistry postVersionRegistry, JdbcTemplate jdbcTemplate, DataSource dataSource, PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${post.bulk.batch-size:1000}") int batchSize,
+                           @Value("${post.bulk.export-fetch-size:1000}") int exportFetchSize) {
+        this.memberRepository = memberRepository;
+        this.postCountService = postCountService;
+        this.postVersionRegistry = postVersionRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        // PostgreSQL은 트랜잭션 안(autocommit off)에서 fetchSize가 있어야 결과를 한 번에 받지 않고 커서로 나눠 받음
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(exportFetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.lineReader = objectMapper.readerFor(PostBulkLine.class);
+        // 한 줄마다 flush하지 않도록 (버퍼가 찰 때만 응답으로 내보냄)
+        this.lineWriter = objectMapper.writerFor(PostBulkLine.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+
+        this.importedRows = Counter.builder("board.posts.bulk.rows").tag("operation", "import").register(meterRegistry);
+        this.exportedRows = Counter.builder("board.posts.bulk.rows").tag("operation", "export").register(meterRegistry);
+        this.importTimer = Timer.builder("board.posts.bulk.duration").tag("operation", "import").register(meterRegistry);
+        this.exportTimer = Timer.builder("board.posts.bulk.duration").tag("operation", "export").register(meterRegistry);
+    }
+
+    // 가져오기 중인 한 줄 (오류 메시지에 줄 번호를 남기기 위해)
+    private record NumberedLine(long number, PostBulkLine line) {
+    }
+
+    // INSERT할 행 (id 발급 완료)
+    private record PostRow(long id, long memberId, PostBulkLine line) {
+    }
+
+    /**
+     * NDJSON 가져오기
+     * 잘못된 줄은 건너뛰고 계속 진행, 결과에 건너뛴 수와 이유를 담음
+     * 배치 단위로 커밋하므로 중간에 DB 오류가 나면 그 전 배치까지는 저장된 상태로 남음
+     */
+    public PostImportResult importPosts(InputStream input) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> memberIds = new HashMap<>(); // 한 번 찾은 작성자는 다시 조회하지 않음
+        SequenceIdAllocator postIds = new SequenceIdAllocator(jdbcTemplate, Post.ID_SEQUENCE, Post.ID_ALLOCATION_SIZE);
+        List<String> errors = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<NumberedLine> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                PostBulkLine line = lineReader.readValue(text);
+                if (line.getTitle() == null || line.getTitle().isBlank() || line.getAuthorLoginId() == null) {
+                    throw new IllegalArgumentException("title과 authorLoginId는 필수입니다.");
+                }
+                // 너무 긴 제목은 배치 INSERT 전체를 실패시키므로 줄 단위로 거름 (varchar는 UTF-16 단위가 아니라 글자 수)
+                if (line.getTitle().codePointCount(0, line.getTitle().length()) > Post.TITLE_MAX_LENGTH) {
+                    throw new IllegalArgumentException("title은 " + Post.TITLE_MAX_LENGTH + "자 이하여야 합니다.");
+                }
+                batch.add(new NumberedLine(lineNumber, line));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                rejected++;
+                addError(errors, lineNumber, e.getMessage());
+            }
+
+            if (batch.size() == batchSize) {
+                imported += insertBatch(batch, memberIds, postIds, errors);
+                rejected += batchSize - batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            int size = batch.size();
+            imported += insertBatch(batch, memberIds, postIds, errors);
+            rejected += size - batch.size();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        importTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        importedRows.increment(imported);
+
+        PostImportResult result = new PostImportResult(imported, rejected, List.copyOf(errors),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("게시글 가져오기 완료: imported={}, rejected={}, {} rows/s",
+                result.getImported(), result.getRejected(), result.getRowsPerSecond());
+        return result;
+    }
+
+    /**
+     * 배치 하나 저장 (작성자 조회 1번 + 배치 INSERT 1번)
+     * 작성자를 찾지 못한 줄은 batch에서 제거됨 -> 호출한 쪽에서 줄어든 수만큼 rejected로 셈
+     */
+    private int insertBatch(List<NumberedLine> batch, Map<String, Long> memberIds,
+                            SequenceIdAllocator postIds, List<String> errors) {
+        // 1. 아직 모르는 작성자만 모아서 IN 쿼리 한 번으로 조회
+        Set<String> unknown = new HashSet<>();
+        for (NumberedLine numbered : batch) {
+            if (!memberIds.containsKey(numbered.line().getAuthorLoginId())) {
+                unknown.add(numbered.line().getAuthorLoginId());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            for (Member member : memberRepository.findAllByLoginIdIn(unknown)) {
+                memberIds.put(member.getLoginId(), member.getId());
+            }
+        }
+
+        // 2. 없는 작성자의 글은 제외
+        batch.removeIf(numbered -> {
+            if (memberIds.containsKey(numbered.line().getAuthorLoginId())) {
+                return false;
+            }
+            addError(errors, numbered.number(), "해당 아이디의 유저가 없습니다. id=" + numbered.line().getAuthorLoginId());
+            return true;
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 3. id는 엔티티와 같은 시퀀스에서 미리 발급 (시퀀스 호출은 50개마다 한 번)
+        List<PostRow> rows = new ArrayList<>(batch.size());
+        for (NumberedLine numbered : batch) {
+            rows.add(new PostRow(postIds.nextId(), memberIds.get(numbered.line().getAuthorLoginId()), numbered.line()));
+        }
+
+        // 4. JDBC 배치 INSERT (배치 하나 = 트랜잭션 하나)
+        LocalDateTime now = LocalDateTime.now();
+        //    커밋될 때마다 목록 버전을 올리고 (목록 ETag, 렌더링 캐시 무효화) 전체 글 수 캐시에 더함
+        //    -> 중간에 실패해도 커밋된 배치는 목록과 글 수에 보임
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionCallbacks.afterCommit(postVersionRegistry::listChanged);
+            postCountService.add(rows.size());
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                    PostBulkLine line = row.line();
+                    LocalDateTime created = (line.getCreatedDate() != null) ? line.getCreatedDate() : now;
+                    LocalDateTime modified = (line.getModifiedDate() != null) ? line.getModifiedDate() : created;
+                    ps.setLong(1, row.id());
+                    ps.setString(2, line.getTitle());
+                    ps.setString(3, (line.getContent() != null) ? line.getContent() : "");
+                    ps.setLong(4, row.memberId());
+                    ps.setTimestamp(5, Timestamp.valueOf(created));
+                    ps.setTimestamp(6, Timestamp.valueOf(modified));
+                });
+        });
+        return rows.size();
+    }
+
+    private static void addError(List<String> errors, long lineNumber, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(lineNumber + "번째 줄: " + message);
+        }
+    }
+
+    /**
+     * NDJSON 내보내기 (id 순)
+     * 읽은 행을 바로 JSON으로 써서 내보내므로 목록을 메모리에 모으지 않음
+     * @return 내보낸 글 수
+     */
+    public long exportPosts(OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        JsonGenerator generator = lineWriter.getFactory().createGenerator(output);
+        generator.setRootValueSeparator(null); // 줄 구분은 직접 '\n'으로
+        long[] count = {0};
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> exportJdbcTemplate.query(EXPORT_SQL, rs -> {
+            Timestamp created = rs.getTimestamp("created_date");
+            Timestamp modified = rs.getTimestamp("modified_date");
+            PostBulkLine line = new PostBulkLine(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getString("login_id"),
+                    (created != null) ? created.toLocalDateTime() : null,
+                    (modified != null) ? modified.toLocalDateTime() : null);
+            try {
+                lineWriter.writeValue(generator, line);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // 클라이언트가 연결을 끊으면 여기서 중단 -> 트랜잭션(커서)도 정리됨
+            }
+            count[0]++;
+        }));
+        generator.flush();
+
+        long elapsedNanos = System.nanoTime() - start;
+        exportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        exportedRows.increment(count[0]);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("게시글 내보내기 완료: rows={}, {} rows/s", count[0], count[0] * 1000 / elapsedMillis);
+        return count[0];
+    }
+}
@@ -0,0 +1,115 @@
+package my_board.demo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import my_board.demo.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수 캐시
+ * 목록 페이징마다 "SELECT count(*) FROM post" (PostgreSQL에서는 풀 스캔)를 날리지 않도록
+ * 메모리에 개수를 들고 있다가 글 작성/삭제 시 증감시키고, 주기적으로 DB와 맞춤(reconcile)
+ * - exact: count(*) 값으로 항상 덮어씀
+ * - estimate: pg_class.reltuples는 통계값이라 정확한 카운터보다 부정확함
+ *   -> 추정값은 따로 메트릭으로만 남기고, 차이가 허용 비율(post.count.estimate-tolerance)을 넘을 때만 카운터를 보정
+ */
+@Slf4j
+@Service
+public class PostCountService {
+    private static final long UNINITIALIZED = -1L;
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean useEstimate;
+    private final double estimateTolerance;
+
+    private final AtomicLong cachedCount = new AtomicLong(UNINITIALIZED);
+    private final AtomicLong lastDrift = new AtomicLong(); // 마지막 보정 시점의 (캐시 - DB) 차이
+    private final AtomicLong lastEstimate = new AtomicLong(UNINITIALIZED); // estimate 모드에서 마지막으로 읽은 추정값
+
+    public PostCountService(PostRepository postRepository, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                            @Value("${post.count.mode:exact}") String mode,
+                            @Value("${post.count.estimate-tolerance:0.05}") double estimateTolerance) {
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // exact: count(*) 로 보정 / estimate: pg_class.reltuples 통계값으로 보정 (풀 스캔 없음)
+        this.useEstimate = "estimate".equals(mode);
+        this.estimateTolerance = estimateTolerance;
+
+        Gauge.builder("board.posts.count.cached", cachedCount, AtomicLong::get)
+                .description("메모리에 캐시된 전체 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.posts.count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시점에 캐시 값과 DB 값(estimate 모드에서는 추정값)의 차이")
+                .register(meterRegistry);
+        Gauge.builder("board.posts.count.estimate", lastEstimate, AtomicLong::get)
+                .description("pg_class.reltuples 추정 게시글 수 (estimate 모드, 아직 읽지 않았으면 -1)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 페이징에 사용할 전체 게시글 수 (아직 한 번도 조회하지 않았다면 DB에서 한 번 가져옴)
+     */
+    public long getCount() {
+        long count = cachedCount.get();
+        return (count == UNINITIALIZED) ? reconcile() : count;
+    }
+
+    // 글 작성 시 호출 (트랜잭션 안이면 커밋된 뒤에 반영 -> 롤백된 글은 세지 않음)
+    public void increment() {
+        add(1);
+    }
+
+    // 여러 글을 한 번에 작성했을 때
+    public void add(long delta) {
+        TransactionCallbacks.afterCommit(() -> cachedCount.updateAndGet(c -> c == UNINITIALIZED ? c : c + delta));
+    }
+
+    // 글 삭제 시 호출
+    public void decrement() {
+        TransactionCallbacks.afterCommit(() -> cachedCount.updateAndGet(c -> c == UNINITIALIZED ? c : Math.max(0, c - 1)));
+    }
+
+    /**
+     * 캐시 값을 DB 값으로 보정하고, 그 차이(drift)를 메트릭으로 남김
+     * estimate 모드에서는 추정값과의 차이가 허용 비율 이내면 카운터를 그대로 둠
+     */
+    @Scheduled(fixedDelayString = "${post.count.reconcile-interval-ms:300000}",
+               initialDelayString = "${post.count.reconcile-interval-ms:300000}")
+    public long reconcile() {
+        long actual = loadCount();
+        long previous = cachedCount.get();
+        long drift = (previous == UNINITIALIZED) ? 0 : previous - actual;
+        lastDrift.set(drift);
+
+        if (previous != UNINITIALIZED && useEstimate && Math.abs(drift) <= actual * estimateTolerance) {
+            return previous;
+        }
+        // 그 사이에 작성/삭제로 값이 바뀌었으면 그 변화는 다음 보정에서 맞춤
+        cachedCount.compareAndSet(previous, actual);
+        if (drift != 0) {
+            log.info("게시글 수 캐시 보정: cached={}, actual={}, drift={}", previous, actual, drift);
+        }
+        return actual;
+    }
+
+    private long loadCount() {
+        if (useEstimate) {
+            // ANALYZE/autovacuum이 갱신하는 통계값. 한 번도 분석되지 않은 테이블은 -1(또는 0)이 나옴
+            // relname이 아니라 regclass로 찾음 -> search_path 기준으로 앱이 쓰는 post 테이블 하나만 (다른 스키마의 post 제외)
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = 'post'::regclass", Long.class);
+            if (estimate != null && estimate > 0) {
+                lastEstimate.set(estimate);
+                return estimate;
+            }
+        }
+        return postRepository.count();
+    }
+}
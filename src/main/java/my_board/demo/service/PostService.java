@@ -1,20 +1,46 @@
 package my_board.demo.service;
 
 import lombok.RequiredArgsConstructor;
+import my_board.demo.cache.PostDetailCache;
+import my_board.demo.cache.PostVersionRegistry;
+import my_board.demo.config.RequestTimings;
 import my_board.demo.domain.Member;
 import my_board.demo.domain.Post;
+import my_board.demo.dto.PostCursor;
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostResponseDto;
 import my_board.demo.dto.PostSaveRequestDto;
+import my_board.demo.dto.PostSummaryDto;
 import my_board.demo.dto.PostUpdateRequestDto;
 import my_board.demo.repository.MemberRepository;
 import my_board.demo.repository.PostRepository;
+import my_board.demo.search.PostSearchEngine;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 1. 중요!
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository; // 작성자(Member)를  찾기 위해 필요
+    private final PostCountService postCountService; // 전체 게시글 수 캐시 (페이징용)
+    private final PostDetailCache postDetailCache; // 게시글 상세 캐시
+    private final PostVersionRegistry postVersionRegistry; // HTTP 조건부 요청(ETag)용 버전
+    private final PostSearchEngine postSearchEngine; // 검색 색인 (자체 색인을 가진 엔진만 변경 알림을 사용)
+    private final ViewCountService viewCountService; // 조회수 (메모리에 모았다가 일괄 반영)
+    private final HotPostService hotPostService; // 인기 글 (최근 조회/수정 활동 집계)
 
     /**
      * 게시글 생성(Create)
@@ -23,43 +49,222 @@ public class PostService {
     public Long save(PostSaveRequestDto Save_Req, String loginId) {
         // 2. DTO로부터 작성자(Member)를 찾아서 주입
         //    (지금은 로그인 기능이 없으므로, 임시로 loginId를 받아서 처리
-        Member member = memberRepository.findByLoginId(loginId)
+        Member member = RequestTimings.time(RequestTimings.Phase.MEMBER, () -> memberRepository.findByLoginId(loginId))
                 .orElseThrow(() -> new IllegalArgumentException("해당 아이디의 유저가 없습니다. id=" + loginId));
 
         Post post = Save_Req.toEntity(member); // DTO -> Entity 변환 (Member 주입)
         postRepository.save(post);
+        postCountService.increment();
+
+        PostSummaryDto summary = toSummary(post);
+        TransactionCallbacks.afterCommit(() -> postSearchEngine.onPostSaved(summary));
+        TransactionCallbacks.afterCommit(postVersionRegistry::listChanged);
 
         return post.getId();
     }
 
     /**
-     * 게시글 수정(Update)
+     * 게시글 여러 개를 한 번에 생성 (같은 작성자)
+     * id가 시퀀스 방식이라 persist 시점에 INSERT가 나가지 않고, 커밋할 때 JDBC 배치(hibernate.jdbc.batch_size)로 묶여서 실행됨
      */
-    @Transactional // 3. JPA의 '더티 체킹(Dirty Checking)'을 위해 필수!
-    public Long update(Long id, PostUpdateRequestDto Update_Req) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다. id=" + id));
+    @Transactional
+    public List<Long> saveAll(List<PostSaveRequestDto> requests, String loginId) {
+        Member member = RequestTimings.time(RequestTimings.Phase.MEMBER, () -> memberRepository.findByLoginId(loginId))
+                .orElseThrow(() -> new IllegalArgumentException("해당 아이디의 유저가 없습니다. id=" + loginId));
+
+        List<Post> posts = new ArrayList<>(requests.size());
+        for (PostSaveRequestDto request : requests) {
+            posts.add(request.toEntity(member));
+        }
+        postRepository.saveAll(posts);
+        postCountService.add(posts.size());
+
+        List<Long> ids = new ArrayList<>(posts.size());
+        List<PostSummaryDto> summaries = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            ids.add(post.getId());
+            summaries.add(toSummary(post));
+        }
+        TransactionCallbacks.afterCommit(() -> summaries.forEach(postSearchEngine::onPostSaved));
+        TransactionCallbacks.afterCommit(postVersionRegistry::listChanged);
+        return ids;
+    }
+
+    /**
+     * 게시글 수정(Update) - 작성자 확인 + 동시 수정 확인 + UPDATE를 문장 하나로
+     * @param memberId 로그인한 사용자의 Member id (JWT principal)
+     * @throws AccessDeniedException            작성자가 아님
+     * @throws OptimisticLockingFailureException 폼을 연 뒤 다른 수정이 먼저 반영됨 (덮어쓰지 않음)
+     */
+    @Transactional
+    public Long update(Long id, PostUpdateRequestDto Update_Req, Long memberId) {
+        if (Update_Req.getVersion() == null) {
+            throw new IllegalArgumentException("게시글 버전 정보가 없습니다. id=" + id);
+        }
 
-        // 4. Post 엔티티에 만들어둔 update 메서드 호출
-        post.update(Update_Req.getTitle(), Update_Req.getContent());
+        // 1. 조회 없이 조건부 UPDATE (반영된 행이 없으면 실패 이유만 따로 확인)
+        LocalDateTime modifiedDate = LocalDateTime.now();
+        int updated = postRepository.updateIfOwner(id, memberId, Update_Req.getVersion(),
+                Update_Req.getTitle(), Update_Req.getContent(), modifiedDate);
+        if (updated == 0) {
+            throw writeRejected(id, memberId);
+        }
 
-        // 5. @Transactional 덕분에,
-        //    'postRepository.save(post)'를 호출하지 않아도
-        //    JPA가 변경된 내용을 감지(Dirty Checking)하고 DB에 자동으로 UPDATE 쿼리를 날림
-        //    (BaseTime의 modifiedDate도 이때 자동으로 업데이트됨)
+        // 2. 커밋 후 캐시/색인 반영
+        String title = Update_Req.getTitle();
+        TransactionCallbacks.afterCommit(() -> postDetailCache.evict(id)); // 커밋 후 상세 캐시 무효화
+        TransactionCallbacks.afterCommit(() -> postVersionRegistry.putPost(id, modifiedDate)); // DB에 쓴 수정 시각 그대로
+        TransactionCallbacks.afterCommit(postVersionRegistry::listChanged);
+        TransactionCallbacks.afterCommit(() -> postSearchEngine.onPostUpdated(id, title));
+        TransactionCallbacks.afterCommit(() -> hotPostService.recordEdit(id));
 
         return id;
     }
 
     /**
-     * 게시글 삭제(Delete)
+     * 게시글 삭제(Delete) - 작성자 확인 + DELETE를 문장 하나로
+     * @throws AccessDeniedException 작성자가 아님
      */
     @Transactional
-    public void delete(Long id) {
+    public void delete(Long id, Long memberId) {
+        if (postRepository.deleteIfOwner(id, memberId) == 0) {
+            throw writeRejected(id, memberId);
+        }
+
+        postCountService.decrement();
+        TransactionCallbacks.afterCommit(() -> postDetailCache.evict(id));
+        TransactionCallbacks.afterCommit(() -> postSearchEngine.onPostDeleted(id));
+        TransactionCallbacks.afterCommit(() -> postVersionRegistry.removePost(id));
+        TransactionCallbacks.afterCommit(postVersionRegistry::listChanged);
+    }
+
+    // 조건부 쓰기가 0건일 때만(실패 경로) 글을 조회해서 이유에 맞는 예외로 변환
+    private RuntimeException writeRejected(Long id, Long memberId) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다. id=" + id));
+        if (post.getMember() == null || !post.getMember().getId().equals(memberId)) {
+            return new AccessDeniedException("작성자만 수정/삭제할 수 있습니다. id=" + id);
+        }
+        return new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 게시글입니다. id=" + id);
+    }
+
+    /**
+     * 게시글 상세 조회 (캐시 우선, 없으면 Fetch Join으로 DB 조회)
+     * 캐시 hit일 때 DB 커넥션을 잡지 않도록 여기에는 @Transactional을 붙이지 않음
+     * (트랜잭션 밖이라 복제본 라우팅이 켜져 있어도 primary에서 읽음 -> 모든 사용자가 보는 캐시에 복제 지연된 값을 채우지 않음)
+     */
+    public PostResponseDto findPostDetail(Long id) {
+        PostResponseDto post = loadPostDetail(id);
+        // 수정 커밋 전에 옛 행을 읽은 조회가 캐시를 다시 채운 경우 -> 버전 맵의 버전보다 오래됨 -> 다시 읽음
+        Long knownVersion = postVersionRegistry.getPostVersion(id);
+        if (knownVersion != null && knownVersion > PostVersionRegistry.toVersion(post.getModifiedDate())) {
+            postDetailCache.evict(id);
+            post = loadPostDetail(id);
+        }
+        // 화면에 보여줄 값과 같은 수정 시각으로 버전 맵을 채움 (다음 조건부 요청은 여기서 바로 판단)
+        postVersionRegistry.putPost(id, post.getModifiedDate());
+        return post;
+    }
+
+    private PostResponseDto loadPostDetail(Long id) {
+        return postDetailCache.get(id, key -> postRepository.findByIdWithMember(key)
+                .map(PostResponseDto::new)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid post Id:" + key)));
+    }
+
+    /**
+     * 게시글 상세 화면 (조회수 1 증가)
+     * 조회수는 DB 값(캐시된 DTO) + 아직 반영되지 않은 증가분
+     */
+    public PostResponseDto viewPostDetail(Long id) {
+        PostResponseDto post = findPostDetail(id); // 없는 글이면 여기서 예외 -> 조회수도 올리지 않음
+        recordView(id);
+        return post.withViews(post.getViews() + viewCountService.getPending(id));
+    }
+
+    /**
+     * 조회 기록만 (브라우저 캐시가 그대로 유효해서 304로 응답할 때도 조회로 셈)
+     */
+    public void recordView(Long id) {
+        viewCountService.increment(id);
+        hotPostService.recordView(id);
+    }
+
+    /**
+     * 게시글 목록 - 페이지 번호 방식
+     * 목록 쿼리만 실행하고, 전체 개수는 count 쿼리 대신 캐시된 값을 사용
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> findPostPage(Pageable pageable) {
+        List<PostSummaryDto> content = postRepository.findSummaries(pageable);
+        // (참고) 마지막 페이지에서는 PageImpl이 offset + content.size()로 총 개수를 스스로 보정함
+        return new PageImpl<>(content, pageable, postCountService.getCount());
+    }
+
+    /**
+     * 게시글 목록 - 커서(Keyset) 페이징
+     * @param before 이 커서보다 오래된 글 (다음 페이지)
+     * @param after  이 커서보다 최신 글 (이전 페이지)
+     */
+    @Transactional(readOnly = true)
+    public PostCursorPage findPostsByCursor(String before, String after, int size) {
+        PageRequest limit = PageRequest.of(0, size); // OFFSET은 항상 0, LIMIT만 사용
+
+        // 1. 이전 페이지(최신 방향): id ASC로 가져온 뒤 화면 순서(id DESC)로 뒤집음
+        if (after != null) {
+            Slice<PostSummaryDto> slice = postRepository.findSummarySliceAfter(PostCursor.decode(after), limit);
+            if (slice.hasContent()) {
+                List<PostSummaryDto> content = new ArrayList<>(slice.getContent());
+                Collections.reverse(content);
+                // 기준 글이 그 사이 삭제됐을 수 있으므로 더 오래된 글이 있는지는 실제로 확인 (인덱스에서 한 건만)
+                boolean hasOlder = postRepository.findSummarySliceBefore(content.get(content.size() - 1).getId(),
+                        PageRequest.of(0, 1)).hasContent();
+                return toCursorPage(content, hasOlder, slice.hasNext());
+            }
+            // 더 최신 글이 없음 (최신 글들이 삭제된 경우 등) -> 빈 페이지 대신 첫 페이지
+            Slice<PostSummaryDto> first = postRepository.findSummarySlice(limit);
+            return toCursorPage(first.getContent(), first.hasNext(), false);
+        }
+
+        // 2. 첫 페이지 또는 다음 페이지(과거 방향)
+        Slice<PostSummaryDto> slice = (before != null)
+                ? postRepository.findSummarySliceBefore(PostCursor.decode(before), limit)
+                : postRepository.findSummarySlice(limit);
+        return toCursorPage(slice.getContent(), slice.hasNext(), before != null);
+    }
+
+    /**
+     * 특정 작성자의 글 목록 - 커서(Keyset) 페이징 (다음 페이지 방향만)
+     * 작성자 id/닉네임은 호출하는 쪽에서 넘겨받음 (로그인 principal이면 Member 조회 없음)
+     * 글이 아무리 많아도 인덱스에서 cursor 위치를 바로 찾으므로 페이지마다 비용이 일정함
+     */
+    @Transactional(readOnly = true)
+    public PostCursorPage findPostsByAuthor(Long memberId, String nickname, String before, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        Slice<PostSummaryDto> slice = (before != null)
+                ? postRepository.findAuthorSummarySliceBefore(memberId, PostCursor.decode(before), limit)
+                : postRepository.findAuthorSummarySlice(memberId, limit);
+
+        List<PostSummaryDto> content = new ArrayList<>(slice.getNumberOfElements());
+        for (PostSummaryDto row : slice) {
+            content.add(row.withAuthorNickname(nickname));
+        }
+        return toCursorPage(content, slice.hasNext(), before != null);
+    }
+
+    private PostCursorPage toCursorPage(List<PostSummaryDto> content, boolean hasOlder, boolean hasNewer) {
+        if (content.isEmpty()) {
+            return new PostCursorPage(content, null, null);
+        }
+        String nextCursor = hasOlder ? PostCursor.encode(content.get(content.size() - 1).getId()) : null;
+        String prevCursor = hasNewer ? PostCursor.encode(content.get(0).getId()) : null;
+        return new PostCursorPage(content, nextCursor, prevCursor);
+    }
 
-        postRepository.delete(post); // delete() 메서드를 직접 호출 (deleteById도 가능)
+    // 커밋 후 콜백에서는 영속성 컨텍스트가 닫혀 있을 수 있으므로 트랜잭션 안에서 미리 요약을 만들어 둠
+    private PostSummaryDto toSummary(Post post) {
+        String nickname = (post.getMember() != null) ? post.getMember().getNickname() : null;
+        return new PostSummaryDto(post.getId(), post.getTitle(), nickname, post.getCreatedDate());
     }
 
     // (참고) 게시글 조회(Read) 기능은 Controller에서 바로 DTO로 변환하여 반환하는 것이 좋음
@@ -0,0 +1,28 @@
+package my_board.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업 등록 도우미
+ * (캐시 무효화, 카운터 증감처럼 "DB에 실제로 반영된 뒤"에만 해야 하는 작업용)
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행, 트랜잭션 밖이면 바로 실행 (롤백되면 실행하지 않음)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package my_board.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import my_board.demo.cache.PostDetailCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 (Write-behind)
+ * 조회마다 "UPDATE post SET views = views + 1"을 날리면 인기 글 한 행에 락 경합이 몰리므로
+ * 1. 조회 시에는 메모리의 게시글별 LongAdder만 증가 (스레드별로 셀이 나뉘어 경합 없음)
+ * 2. 주기적으로(post.views.flush-interval-ms) 모인 증가분을 게시글당 UPDATE 한 번으로 묶어 배치 실행
+ * 서버가 비정상 종료되면 마지막 flush 이후의 증가분(최대 flush 간격만큼)만 유실됨 (정상 종료 시에는 flush 후 종료)
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+    private static final String FLUSH_SQL = "UPDATE post SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostDetailCache postDetailCache;
+    private final int batchSize;
+
+    // 아직 DB에 반영되지 않은 조회수 (게시글 id -> 증가분)
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final DistributionSummary flushSize;
+    private final Counter flushFailures;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, PostDetailCache postDetailCache, MeterRegistry meterRegistry,
+                            @Value("${post.views.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postDetailCache = postDetailCache;
+        this.batchSize = batchSize;
+
+        Gauge.builder("board.posts.views.pending", pending, Map::size)
+                .description("DB 반영을 기다리는 조회수가 있는 게시글 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("board.posts.views.flush")
+                .description("조회수 배치 UPDATE 소요 시간")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("board.posts.views.flush.size")
+                .description("한 번의 flush에서 UPDATE한 게시글 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("board.posts.views.flush.failures")
+                .description("조회수 flush 실패 횟수 (증가분은 다음 flush에서 재시도)")
+                .register(meterRegistry);
+    }
+
+    // 게시글 상세 조회 시 호출
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 증가분 (화면에는 DB 값 + 이 값을 보여줌)
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder != null) ? adder.sum() : 0L;
+    }
+
+    /**
+     * 모인 증가분을 DB에 반영
+     * 실패하면 증가분을 다시 pending에 돌려놓고 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}",
+               initialDelayString = "${post.views.flush-interval-ms:5000}")
+    public void flush() {
+        List<long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // id 순으로 정렬 -> 여러 서버가 동시에 flush해도 행 락을 같은 순서로 잡아서 데드락이 나지 않음
+        deltas.sort(Comparator.comparingLong(delta -> delta[0]));
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, batchSize, (ps, delta) -> {
+                ps.setLong(1, delta[1]);
+                ps.setLong(2, delta[0]);
+            }));
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            deltas.forEach(delta -> pending.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]));
+            log.warn("조회수 flush 실패, 다음 주기에 재시도: posts={}", deltas.size(), e);
+            return;
+        }
+        long flushedNanos = System.nanoTime();
+        flushSize.record(deltas.size());
+
+        // 캐시된 상세 DTO의 조회수를 DB와 같은 값으로 맞춤 (무효화하면 인기 글마다 flush 주기마다 DB를 다시 읽게 됨)
+        // - 커밋 뒤에 DB에서 읽어 온 항목은 이미 반영된 값이므로 건너뜀 (두 번 더하지 않음)
+        // - 배치 UPDATE 도중에 읽기 시작해서 커밋 후의 값을 읽은 항목만 드물게 두 번 더해짐 (TTL까지, 조회수는 근사치로 충분)
+        // 화면 값 = DTO 조회수 + pending 이므로, drain부터 여기까지의 짧은 사이만 이번 증가분이 빠져 보임
+        deltas.forEach(delta -> postDetailCache.addViews(delta[0], delta[1], flushedNanos));
+    }
+
+    // 정상 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * pending의 증가분을 꺼내고 0으로 초기화 ([게시글 id, 증가분] 목록)
+     * 이번 주기에 조회가 없었던 게시글은 맵에서 제거해서 맵이 계속 커지지 않게 함
+     * (참고) 제거 직전에 카운터를 잡은 스레드의 증가분은 드물게 유실될 수 있음 -> 조회수는 근사치로 충분
+     */
+    private List<long[]> drain() {
+        List<long[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                delta = entry.getValue().sumThenReset(); // 제거하는 사이에 들어온 증가분
+                if (delta == 0) {
+                    continue;
+                }
+            }
+            deltas.add(new long[]{entry.getKey(), delta});
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,27 @@
+-- 기본 스키마 (H2: 테스트, 부하 테스트, 벤치마크용 내장 DB)
+-- PostgreSQL 스크립트(db/migration/postgresql)와 같은 구조. 기존 DB 보정 단계는 필요 없음
+
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS post_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS member (
+    id       bigint       NOT NULL,
+    login_id varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    nickname varchar(255) NOT NULL,
+    CONSTRAINT member_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_member_login_id UNIQUE (login_id)
+);
+
+-- content: H2의 TEXT는 CLOB이라 엔티티(String) 검증과 LIKE 검색에 맞지 않으므로 길이 제한 없는 varchar 사용
+CREATE TABLE IF NOT EXISTS post (
+    id            bigint            NOT NULL,
+    title         varchar(255)      NOT NULL,
+    content       character varying NOT NULL,
+    member_id     bigint,
+    views         bigint            NOT NULL DEFAULT 0,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    CONSTRAINT post_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
@@ -0,0 +1,3 @@
+-- 게시글 조회 패턴에 맞춘 인덱스 (PostgreSQL V2와 동일)
+CREATE INDEX IF NOT EXISTS idx_post_member_id_id ON post (member_id, id DESC);
+CREATE INDEX IF NOT EXISTS idx_post_created_date ON post (created_date);
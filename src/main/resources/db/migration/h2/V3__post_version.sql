@@ -0,0 +1,2 @@
+-- 게시글 낙관적 잠금 버전 (PostgreSQL V6과 동일)
+ALTER TABLE post ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
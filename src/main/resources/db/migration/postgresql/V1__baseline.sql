@@ -0,0 +1,43 @@
+-- 기본 스키마 (회원, 게시글, id 시퀀스)
+-- ddl-auto=update 시절에 만들어진 기존 DB에도 그대로 실행할 수 있도록 모두 IF NOT EXISTS / 조건부로 작성
+-- (기존 DB는 spring.flyway.baseline-on-migrate로 버전 0이 기록된 뒤 이 스크립트부터 실행됨)
+
+-- 1. id 시퀀스 (INCREMENT BY는 엔티티 @SequenceGenerator의 allocationSize와 같아야 함)
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS post_seq START WITH 1 INCREMENT BY 50;
+
+-- 2. 테이블
+CREATE TABLE IF NOT EXISTS member (
+    id       bigint       NOT NULL,
+    login_id varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    nickname varchar(255) NOT NULL,
+    CONSTRAINT member_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_member_login_id UNIQUE (login_id)
+);
+
+CREATE TABLE IF NOT EXISTS post (
+    id            bigint       NOT NULL,
+    title         varchar(255) NOT NULL,
+    content       text         NOT NULL,
+    member_id     bigint,
+    views         bigint       NOT NULL DEFAULT 0,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    CONSTRAINT post_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+-- 3. 기존 DB 보정: 조회수 칼럼이 없던 시절의 테이블
+ALTER TABLE post ADD COLUMN IF NOT EXISTS views bigint NOT NULL DEFAULT 0;
+
+-- 4. 기존 DB 보정: IDENTITY -> 시퀀스 전환
+--    시퀀스가 기존 최대 id보다 뒤처져 있을 때만 앞으로 당김 (setval(max) 이후 첫 nextval = max + 50 -> 범위 max+1 ~ max+50)
+SELECT setval('member_seq', (SELECT max(id) FROM member))
+WHERE (SELECT max(id) FROM member) > (SELECT last_value FROM member_seq);
+SELECT setval('post_seq', (SELECT max(id) FROM post))
+WHERE (SELECT max(id) FROM post) > (SELECT last_value FROM post_seq);
+
+--    id 없이 INSERT하는 경로가 남아서 시퀀스와 겹치는 id가 생기지 않도록 IDENTITY 해제
+ALTER TABLE member ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE post ALTER COLUMN id DROP IDENTITY IF EXISTS;
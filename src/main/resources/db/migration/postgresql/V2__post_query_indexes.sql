@@ -0,0 +1,9 @@
+-- 게시글 조회 패턴에 맞춘 인덱스
+-- CONCURRENTLY: 기존 테이블에 만들 때도 쓰기를 막지 않음 (Flyway가 이 스크립트는 트랜잭션 밖에서 실행)
+
+-- 작성자별 글 목록 (WHERE member_id = ? ORDER BY id DESC) + post.member_id 조인/외래키 검사
+-- member_id 단독 인덱스는 이 인덱스의 앞부분으로 대신함 (같은 칼럼으로 시작하는 인덱스를 하나 더 두면 쓰기 비용만 늘어남)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_member_id_id ON post (member_id, id DESC);
+
+-- 작성일 순 정렬/기간 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_created_date ON post (created_date);
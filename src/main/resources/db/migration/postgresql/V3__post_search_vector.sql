@@ -0,0 +1,4 @@
+-- 전문 검색용 칼럼 (post.search.engine=postgres)
+-- title + content를 'simple' 설정(형태소 분석 없이 공백 단위)으로 토큰화한 생성 칼럼 -> INSERT/UPDATE 시 DB가 자동 갱신
+ALTER TABLE post ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(content, ''))) STORED;
@@ -0,0 +1,2 @@
+-- 전문 검색 GIN 인덱스 (V3의 칼럼과 분리: CONCURRENTLY는 트랜잭션 안에서 실행할 수 없음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_search_vector ON post USING gin (search_vector);
@@ -0,0 +1,10 @@
+-- 작성자별 글 목록 (PostRepository.findAuthorSummarySlice*)을 index-only scan으로
+-- 목록에 필요한 title, created_date를 인덱스에 포함(INCLUDE)해서 테이블(heap)을 읽지 않음
+-- -> 작성자의 글이 몇 개든 (member_id, id) 위치를 찾은 뒤 LIMIT만큼만 인덱스에서 읽고 끝남
+-- (index-only scan은 visibility map 기준이라 autovacuum이 돌아야 효과가 온전히 남)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_member_id_id_covering
+    ON post (member_id, id DESC) INCLUDE (title, created_date);
+
+-- 기존 (member_id, id DESC) 인덱스는 새 인덱스가 그대로 대신함 (조인/외래키 검사 포함)
+DROP INDEX CONCURRENTLY IF EXISTS idx_post_member_id_id;
@@ -0,0 +1,3 @@
+-- 게시글 낙관적 잠금 버전 (PostRepository.updateIfOwner가 WHERE 절에서 비교하고 1 증가)
+-- PostgreSQL 11+는 상수 DEFAULT 컬럼 추가 시 테이블을 다시 쓰지 않으므로 큰 테이블에서도 바로 끝남
+ALTER TABLE post ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,34 @@
+package my_board.demo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostVersionRegistryTest {
+
+    @Test
+    void older_version_does_not_overwrite_newer() {
+        PostVersionRegistry registry = new PostVersionRegistry(100);
+        LocalDateTime before = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime after = before.plusMinutes(1);
+
+        // 수정 커밋 후 새 버전 -> 커밋 전에 읽은 조회가 옛 버전을 늦게 넣어도 그대로
+        registry.putPost(1L, after);
+        registry.putPost(1L, before);
+
+        assertThat(registry.getPostVersion(1L)).isEqualTo(PostVersionRegistry.toVersion(after));
+    }
+
+    @Test
+    void deleted_post_is_not_refilled() {
+        PostVersionRegistry registry = new PostVersionRegistry(100);
+        registry.putPost(1L, LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        registry.removePost(1L);
+        registry.putPost(1L, LocalDateTime.of(2025, 1, 1, 10, 0)); // 삭제 전에 읽은 조회
+
+        assertThat(registry.getPostVersion(1L)).isNull();
+    }
+}
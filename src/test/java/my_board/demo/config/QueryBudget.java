@@ -0,0 +1,34 @@
+package my_board.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 쿼리 예산 확인 도우미
+ * 예) QueryBudget.assertMaxStatements(2, () -> mockMvc.perform(get("/posts")));
+ * MockMvc 요청은 테스트 스레드에서 그대로 실행되므로 요청 중 실행된 SQL이 모두 집계됨
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    // action 실행 동안의 SQL 집계
+    public static QueryStats.Scope measure(Action action) throws Exception {
+        try (QueryStats.Scope scope = QueryStats.open()) {
+            action.run();
+            return scope;
+        }
+    }
+
+    // 실행된 SQL 문장 수가 max 이하인지 확인 (실패 메시지에 SQL별 실행 횟수 포함)
+    public static QueryStats.Scope assertMaxStatements(int max, Action action) throws Exception {
+        QueryStats.Scope scope = measure(action);
+        assertThat(scope.getStatements()).as("SQL 문장 수: %s", scope).isLessThanOrEqualTo(max);
+        return scope;
+    }
+}
@@ -0,0 +1,34 @@
+package my_board.demo.config;
+
+import my_board.demo.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryIndexCheckerProbesTest {
+
+    @Test
+    void every_post_repository_query_has_a_probe() {
+        // PostRepository에 직접 선언한 쿼리 메서드는 모두 PROBES(또는 EXCLUDED)에 있어야 함
+        Set<String> queryMethods = Arrays.stream(PostRepository.class.getDeclaredMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers())) // @Query + 메서드 이름 쿼리
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        Set<String> probed = QueryIndexChecker.PROBES.stream()
+                .map(QueryIndexChecker.QueryProbe::name)
+                .collect(Collectors.toSet());
+
+        assertThat(probed).doesNotContainAnyElementsOf(QueryIndexChecker.EXCLUDED);
+        assertThat(queryMethods).allSatisfy(name ->
+                assertThat(probed.contains(name) || QueryIndexChecker.EXCLUDED.contains(name))
+                        .as("PostRepository.%s 에 대한 QueryIndexChecker 프로브가 없음", name)
+                        .isTrue());
+        assertThat(queryMethods).containsAll(probed); // 없어진 메서드의 프로브도 남기지 않음
+    }
+}
@@ -0,0 +1,19 @@
+package my_board.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest // 실제 PostgreSQL + Flyway 마이그레이션이 적용된 스키마로 확인
+class QueryIndexCheckerTest {
+    @Autowired
+    QueryIndexChecker queryIndexChecker;
+
+    @Test
+    void all_post_queries_use_indexes() {
+        // 마이그레이션의 인덱스만으로 PostRepository의 모든 쿼리가 전체 스캔/정렬 없이 실행되어야 함
+        assertThat(queryIndexChecker.check()).isEmpty();
+    }
+}
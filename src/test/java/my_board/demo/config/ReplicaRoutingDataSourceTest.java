@@ -0,0 +1,110 @@
+package my_board.demo.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 내장 DB 인스턴스(primary 1개 + 복제본 2개)를 띄워서, 각 DB에 저장된 이름으로 어디로 라우팅됐는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS whoami (name varchar(20))");
+        jdbc.update("DELETE FROM whoami");
+        jdbc.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(database("primary"),
+                List.of(database("replica0"), database("replica1")), Duration.ofMinutes(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String whoami(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class));
+    }
+
+    private static void login(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(loginId, "", AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    @Test
+    void readOnly_goes_to_replicas_in_turn() {
+        assertThat(List.of(whoami(readOnly), whoami(readOnly), whoami(readOnly)))
+                .containsExactly("replica0", "replica1", "replica0");
+    }
+
+    @Test
+    void writes_and_non_transactional_calls_go_to_primary() {
+        assertThat(whoami(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void writer_reads_from_primary_after_commit() {
+        // given: user1이 쓰기 트랜잭션을 커밋
+        login("user1");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE whoami SET name = name"));
+
+        // then: user1의 읽기는 primary, 다른 사용자/비로그인은 복제본
+        assertThat(whoami(readOnly)).isEqualTo("primary");
+        login("user2");
+        assertThat(whoami(readOnly)).startsWith("replica");
+        SecurityContextHolder.clearContext();
+        assertThat(whoami(readOnly)).startsWith("replica");
+    }
+
+    @Test
+    void rolled_back_write_does_not_pin_reader_to_primary() {
+        login("user1");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE whoami SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(whoami(readOnly)).startsWith("replica");
+    }
+
+    @Test
+    void readFromPrimary_overrides_replica_routing() {
+        // 공유 캐시를 채우는 조회는 비로그인이어도 primary, 끝나면 다시 복제본
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> whoami(readOnly))).isEqualTo("primary");
+        assertThat(whoami(readOnly)).startsWith("replica");
+    }
+}
@@ -0,0 +1,111 @@
+package my_board.demo.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+    private static final long MS = Duration.ofMillis(1).toNanos();
+
+    private RequestTimings timings;
+
+    @AfterEach
+    void tearDown() {
+        if (timings != null) {
+            timings.finish(); // 실패해도 스레드 로컬 정리
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void sql_and_member_lookup_are_counted_only_in_their_own_phase() {
+        // given: 핸들러 실행 중 회원 조회(그 안에서 SQL 5ms) + 다른 SQL 10ms + 나머지 작업 30ms
+        timings = RequestTimings.start();
+        // 경계 호출 바깥/안쪽에서 각각 시간을 재서 실제 핸들러 구간을 위아래로 감쌈 (스레드가 언제 밀려나도 성립)
+        long handlerOuterStart = System.nanoTime();
+        RequestTimings.handlerStarted();
+        long handlerInnerStart = System.nanoTime();
+        RequestTimings.time(RequestTimings.Phase.MEMBER, () -> {
+            QueryStats.recordStatement("select member", 5 * MS);
+            sleep(20);
+            return null;
+        });
+        QueryStats.recordStatement("select post", 10 * MS); // 실제로 기다리지 않고 JDBC 시간만 기록
+        sleep(30);
+        long handlerInnerNanos = System.nanoTime() - handlerInnerStart;
+        long viewOuterStart = System.nanoTime();
+        RequestTimings.handlerFinished();
+        long handlerOuterNanos = System.nanoTime() - handlerOuterStart;
+        RequestTimings.renderFinished();
+        long viewOuterNanos = System.nanoTime() - viewOuterStart; // 뷰 렌더링 구간(비어 있음)을 감싼 시간
+
+        Map<RequestTimings.Phase, Long> phases = timings.finish();
+        timings = null;
+
+        // then: QUERY = 전체 SQL 시간 - 회원 조회 안의 SQL 시간 (정확히 10ms)
+        assertThat(phases.get(RequestTimings.Phase.QUERY)).isEqualTo(10 * MS);
+        // MEMBER = 회원 조회 전체 (그 안의 SQL 포함)
+        long member = phases.get(RequestTimings.Phase.MEMBER);
+        assertThat(member).isGreaterThanOrEqualTo(20 * MS);
+        // MAPPING = 핸들러 시간 - SQL(15ms) - 회원 조회 중 SQL이 아닌 부분(MEMBER - 5ms)
+        assertThat(phases.get(RequestTimings.Phase.MAPPING))
+                .isBetween(handlerInnerNanos - 10 * MS - member, handlerOuterNanos - 10 * MS - member);
+        assertThat(phases.get(RequestTimings.Phase.MAPPING)).isGreaterThanOrEqualTo(20 * MS); // 30ms 작업 - 10ms SQL
+        assertThat(phases.get(RequestTimings.Phase.RENDER)).isLessThanOrEqualTo(viewOuterNanos);
+        assertThat(phases.get(RequestTimings.Phase.JWT)).isZero();
+    }
+
+    @Test
+    void render_inside_handler_is_counted_as_render_not_mapping() {
+        // given: 핸들러가 직접 렌더링 30ms (그 안에서 SQL 10ms) + 나머지 작업 10ms
+        timings = RequestTimings.start();
+        long handlerOuterStart = System.nanoTime();
+        RequestTimings.handlerStarted();
+        long handlerInnerStart = System.nanoTime();
+        long[] renderInnerNanos = new long[1];
+        long renderOuterStart = System.nanoTime();
+        RequestTimings.time(RequestTimings.Phase.RENDER, () -> {
+            long start = System.nanoTime();
+            QueryStats.recordStatement("select post", 10 * MS);
+            sleep(30);
+            renderInnerNanos[0] = System.nanoTime() - start;
+            return null;
+        });
+        long renderOuterNanos = System.nanoTime() - renderOuterStart;
+        sleep(10);
+        long handlerInnerNanos = System.nanoTime() - handlerInnerStart;
+        long viewOuterStart = System.nanoTime();
+        RequestTimings.handlerFinished();
+        long handlerOuterNanos = System.nanoTime() - handlerOuterStart;
+        RequestTimings.renderFinished();
+        long viewOuterNanos = System.nanoTime() - viewOuterStart; // 뷰 렌더링 구간(비어 있음)을 감싼 시간
+
+        Map<RequestTimings.Phase, Long> phases = timings.finish();
+        timings = null;
+
+        // then: RENDER = 렌더링 시간 - 그 안의 SQL (+ 비어 있는 뷰 렌더링 구간)
+        assertThat(phases.get(RequestTimings.Phase.QUERY)).isEqualTo(10 * MS);
+        assertThat(phases.get(RequestTimings.Phase.RENDER))
+                .isBetween(renderInnerNanos[0] - 10 * MS, renderOuterNanos - 10 * MS + viewOuterNanos);
+        // MAPPING = 핸들러 시간 - SQL - RENDER = 핸들러 시간 - 렌더링 시간 (두 구간에 겹쳐 세지 않음)
+        assertThat(phases.get(RequestTimings.Phase.MAPPING))
+                .isBetween(handlerInnerNanos - renderOuterNanos, handlerOuterNanos - renderInnerNanos[0]);
+        assertThat(phases.get(RequestTimings.Phase.MAPPING)).isGreaterThanOrEqualTo(10 * MS);
+    }
+
+    @Test
+    void time_outside_request_just_runs() {
+        assertThat(RequestTimings.time(RequestTimings.Phase.MEMBER, () -> "ok")).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,37 @@
+package my_board.demo.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowRequestLogTest {
+
+    private static SlowRequestLog.SlowRequest request(String uri, double totalMs) {
+        return new SlowRequestLog.SlowRequest(Instant.now(), "GET", uri, "PostController.listPosts", 200,
+                totalMs, Map.of("query", totalMs), 1);
+    }
+
+    @Test
+    void keeps_slowest_requests_sorted_by_duration() {
+        // given: 3개까지 보관
+        SlowRequestLog log = new SlowRequestLog(0, 3);
+        log.add(request("/a", 900));
+        log.add(request("/b", 600));
+        log.add(request("/c", 700));
+        log.add(request("/d", 800)); // 가장 빠른 /b를 밀어냄
+        log.add(request("/e", 650)); // 보관 중인 것보다 빠르므로 버림
+
+        // then: 가장 느린 3개가 느린 순으로 (먼저 들어온 /a도 남아 있음)
+        assertThat(log.slowest()).extracting(SlowRequestLog.SlowRequest::uri).containsExactly("/a", "/d", "/c");
+    }
+
+    @Test
+    void threshold() {
+        SlowRequestLog log = new SlowRequestLog(500_000_000L, 10);
+        assertThat(log.isSlow(499_999_999L)).isFalse();
+        assertThat(log.isSlow(500_000_000L)).isTrue();
+    }
+}
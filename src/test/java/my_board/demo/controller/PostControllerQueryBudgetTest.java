@@ -0,0 +1,64 @@
+package my_board.demo.controller;
+
+import jakarta.persistence.EntityManager;
+import my_board.demo.config.QueryBudget;
+import my_board.demo.domain.Member;
+import my_board.demo.dto.PostSaveRequestDto;
+import my_board.demo.repository.MemberRepository;
+import my_board.demo.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문장 수 상한 (N+1 등으로 쿼리가 늘어나면 실패)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional // 테스트 데이터는 롤백 (MockMvc 요청도 같은 스레드라 같은 트랜잭션에서 조회)
+class PostControllerQueryBudgetTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    void listPosts_at_most_2_statements() throws Exception {
+        // 목록 요약 쿼리 1번 (+ 전체 글 수 캐시가 비어 있으면 count 1번)
+        QueryBudget.assertMaxStatements(2, () -> mockMvc.perform(get("/posts")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void listPosts_anonymous_served_from_fragment_cache() throws Exception {
+        // 첫 요청에서 렌더링한 HTML을 저장 -> 글이 바뀌지 않았으면 다음 요청은 SQL 없이 그대로 응답
+        mockMvc.perform(get("/posts").param("page", "1")).andExpect(status().isOk());
+        QueryBudget.assertMaxStatements(0,
+                () -> mockMvc.perform(get("/posts").param("page", "1")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void postDetail_one_statement_then_cached() throws Exception {
+        // given
+        memberRepository.save(Member.builder().loginId("budget").password("1234").nickname("예산").build());
+        Long id = postService.save(PostSaveRequestDto.builder().title("제목").content("내용").build(), "budget");
+        em.flush(); // INSERT가 요청 중에 나가서 집계되지 않도록 미리 반영
+        em.clear();
+
+        // then: 첫 조회는 Fetch Join 1번, 두 번째부터는 상세 캐시에서 (SQL 없음)
+        QueryBudget.assertMaxStatements(1, () -> mockMvc.perform(get("/posts/" + id)).andExpect(status().isOk()));
+        QueryBudget.assertMaxStatements(0, () -> mockMvc.perform(get("/posts/" + id)).andExpect(status().isOk()));
+    }
+}
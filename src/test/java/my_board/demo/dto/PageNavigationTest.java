@@ -0,0 +1,52 @@
+package my_board.demo.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageNavigationTest {
+
+    @Test
+    void window_around_current_page() {
+        // 전체 10000쪽 중 가운데: 처음/마지막 + 현재 앞뒤 2쪽, 사이는 null("…")
+        PageNavigation nav = PageNavigation.of(4999, 10_000, 2);
+
+        assertThat(nav.getPages()).containsExactly(0, null, 4997, 4998, 4999, 5000, 5001, null, 9999);
+        assertThat(nav.isFirst()).isFalse();
+        assertThat(nav.isLast()).isFalse();
+    }
+
+    @Test
+    void edges_without_gap() {
+        // 첫 페이지: 앞쪽 "…" 없음
+        assertThat(PageNavigation.of(0, 100, 2).getPages()).containsExactly(0, 1, 2, null, 99);
+        // 마지막 페이지: 뒤쪽 "…" 없음
+        assertThat(PageNavigation.of(99, 100, 2).getPages()).containsExactly(0, null, 97, 98, 99);
+        // 건너뛸 페이지가 한 쪽뿐이면 "…" 대신 그 페이지를 그대로 표시
+        assertThat(PageNavigation.of(3, 7, 1).getPages()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void small_page_count_shows_all() {
+        assertThat(PageNavigation.of(1, 3, 2).getPages()).containsExactly(0, 1, 2);
+        assertThat(PageNavigation.of(0, 0, 2).getPages()).isEmpty();
+    }
+
+    @Test
+    void number_of_links_is_bounded() {
+        // 페이지 수와 무관하게 최대 window * 2 + 5개
+        for (int totalPages : Arrays.asList(10, 1_000, 100_000)) {
+            for (int number : Arrays.asList(0, totalPages / 2, totalPages - 1)) {
+                assertThat(PageNavigation.of(number, totalPages, 2).getPages()).hasSizeLessThanOrEqualTo(9);
+            }
+        }
+    }
+
+    @Test
+    void negative_window() {
+        assertThrows(IllegalArgumentException.class, () -> PageNavigation.of(0, 10, -1));
+    }
+}
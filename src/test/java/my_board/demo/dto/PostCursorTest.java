@@ -0,0 +1,26 @@
+package my_board.demo.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostCursorTest {
+
+    @Test
+    void encode_decode() {
+        // given: 게시글 id로 커서 토큰을 만든다.
+        String token = PostCursor.encode(12345L);
+
+        // then: 토큰에는 id가 그대로 노출되지 않고, 다시 풀면 같은 id가 나와야 함
+        assertThat(token).doesNotContain("12345");
+        assertThat(PostCursor.decode(token)).isEqualTo(12345L);
+    }
+
+    @Test
+    void decode_invalid() {
+        // 형식이 맞지 않는 토큰은 IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> PostCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PostCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,37 @@
+package my_board.demo.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my_board.demo.dto.PostSummaryDto;
+import my_board.demo.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryPostSearchEngineTest {
+
+    @Test
+    void update_committed_during_build_is_not_overwritten_by_old_title() {
+        // given: 전체 색인이 옛 제목으로 배치를 읽은 뒤, 색인에 넣기 전에 제목 수정이 커밋됨
+        PostRepository postRepository = mock(PostRepository.class);
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine(postRepository, new SimpleMeterRegistry(), 10);
+        when(postRepository.findSummarySliceAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            engine.onPostUpdated(1L, "새 제목");
+            return new SliceImpl<>(List.of(new PostSummaryDto(1L, "옛 제목", "작성자", null)));
+        });
+
+        // when
+        engine.buildIndex();
+
+        // then: 새 제목으로 찾고, 옛 제목으로는 찾지 않음
+        assertThat(engine.search("새 제목", null, 10).getContent()).extracting(PostSummaryDto::getId).containsExactly(1L);
+        assertThat(engine.search("옛", null, 10).getContent()).isEmpty();
+    }
+}
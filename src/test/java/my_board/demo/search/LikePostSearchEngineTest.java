@@ -0,0 +1,72 @@
+package my_board.demo.search;
+
+import my_board.demo.domain.Member;
+import my_board.demo.domain.Post;
+import my_board.demo.dto.PostCursorPage;
+import my_board.demo.dto.PostSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 DB(H2)로 실행되는 JPA 슬라이스 테스트 (PostgreSQL 없이 검색 동작 확인)
+@DataJpaTest(properties = "post.search.engine=like")
+@Import(LikePostSearchEngine.class)
+class LikePostSearchEngineTest {
+    @Autowired
+    LikePostSearchEngine searchEngine;
+
+    @Autowired
+    TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        Member member = em.persist(Member.builder()
+                .loginId("searcher")
+                .password("1234")
+                .nickname("검색유저")
+                .build());
+        em.persist(Post.builder().title("스프링 부트 시작하기").content("내용1").member(member).build());
+        em.persist(Post.builder().title("자바 기초").content("스프링은 자바 프레임워크입니다").member(member).build());
+        em.persist(Post.builder().title("할인 100% 이벤트").content("내용3").member(member).build());
+        em.flush();
+    }
+
+    @Test
+    void search_title_and_content() {
+        // when: 제목 또는 본문에 '스프링'이 포함된 글 검색
+        PostCursorPage result = searchEngine.search("스프링", null, 20);
+
+        // then: 두 건이 최신 글(id DESC) 순으로 나와야 함
+        assertThat(result.getContent()).extracting(PostSummaryDto::getTitle)
+                .containsExactly("자바 기초", "스프링 부트 시작하기");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void search_with_cursor() {
+        // given: 한 페이지에 1건씩
+        PostCursorPage first = searchEngine.search("스프링", null, 1);
+        assertThat(first.hasNext()).isTrue();
+
+        // when: 다음 커서로 이어서 조회
+        PostCursorPage second = searchEngine.search("스프링", first.getNextCursor(), 1);
+
+        // then: 첫 페이지와 겹치지 않는 다음 글
+        assertThat(second.getContent()).extracting(PostSummaryDto::getTitle)
+                .containsExactly("스프링 부트 시작하기");
+    }
+
+    @Test
+    void search_escapes_wildcards() {
+        // '%'는 와일드카드가 아니라 글자 그대로 검색되어야 함
+        PostCursorPage result = searchEngine.search("100%", null, 20);
+
+        assertThat(result.getContent()).extracting(PostSummaryDto::getTitle)
+                .containsExactly("할인 100% 이벤트");
+    }
+}
@@ -0,0 +1,75 @@
+package my_board.demo.search;
+
+import my_board.demo.dto.PostSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleIndexTest {
+
+    private static PostSummaryDto post(long id, String title) {
+        return new PostSummaryDto(id, title, "작성자", null);
+    }
+
+    private static List<Long> ids(List<PostSummaryDto> posts) {
+        return posts.stream().map(PostSummaryDto::getId).toList();
+    }
+
+    @Test
+    void search_korean_substring() {
+        // given: 조사가 붙은 한국어 제목
+        TitleIndex index = new TitleIndex();
+        index.put(post(1, "게시판에서 글쓰기"));
+        index.put(post(2, "게시글 목록 성능"));
+        index.put(post(3, "게시 시판 따로"));
+
+        // then: 부분 문자열로 찾고, n-gram은 모두 있지만 붙어 있지 않은 글(3)은 제외, 최신 글 먼저
+        assertThat(ids(index.search("게시판", Long.MAX_VALUE, 10))).containsExactly(1L);
+        assertThat(ids(index.search("게시", Long.MAX_VALUE, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(index.search("게시 성능", Long.MAX_VALUE, 10))).containsExactly(2L);
+        assertThat(ids(index.search("글", Long.MAX_VALUE, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_with_cursor_and_limit() {
+        TitleIndex index = new TitleIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(post(id, "Spring 게시판 " + id));
+        }
+
+        // 대소문자 구분 없이, beforeId보다 작은 글만 limit개
+        assertThat(ids(index.search("spring", Long.MAX_VALUE, 2))).containsExactly(5L, 4L);
+        assertThat(ids(index.search("SPRING", 4L, 2))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void update_and_remove() {
+        // given
+        TitleIndex index = new TitleIndex();
+        index.put(post(1, "자바 기초"));
+        index.put(post(2, "자바 심화"));
+
+        // when: 1번 제목 수정, 2번 삭제
+        index.put(post(1, "코틀린 기초"));
+        index.remove(2);
+
+        // then: 이전 제목의 토큰은 남지 않아야 함
+        assertThat(index.search("자바", Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(ids(index.search("코틀린", Long.MAX_VALUE, 10))).containsExactly(1L);
+        assertThat(index.postCount()).isEqualTo(1);
+        assertThat(index.postingCount()).isEqualTo(TitleIndex.titleTokens("코틀린 기초").length);
+    }
+
+    @Test
+    void putIfAbsent_keeps_newer_entry() {
+        // 시작 시 전체 색인이 그 사이 수정된 글을 예전 제목으로 덮어쓰지 않아야 함
+        TitleIndex index = new TitleIndex();
+        index.put(post(1, "수정된 제목"));
+        index.putIfAbsent(post(1, "예전 제목"));
+
+        assertThat(index.search("예전", Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(ids(index.search("수정", Long.MAX_VALUE, 10))).containsExactly(1L);
+    }
+}
@@ -0,0 +1,63 @@
+package my_board.demo.service;
+
+import my_board.demo.domain.Member;
+import my_board.demo.dto.PostSaveRequestDto;
+import my_board.demo.dto.PostUpdateRequestDto;
+import my_board.demo.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 조건부 UPDATE가 0건일 때 실패 이유별 예외 (writeRejected)
+ */
+@SpringBootTest
+@Transactional // 테스트 데이터는 롤백
+class PostServiceTest {
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    Member writer;
+    Member other;
+    Long postId;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(Member.builder().loginId("writer").password("1234").nickname("작성자").build());
+        other = memberRepository.save(Member.builder().loginId("other").password("1234").nickname("다른회원").build());
+        postId = postService.save(PostSaveRequestDto.builder().title("제목").content("내용").build(), "writer");
+    }
+
+    @Test
+    void update_by_other_member_is_access_denied() {
+        PostUpdateRequestDto request = PostUpdateRequestDto.builder().title("수정").content("내용").version(0L).build();
+
+        assertThrows(AccessDeniedException.class, () -> postService.update(postId, request, other.getId()));
+    }
+
+    @Test
+    void update_with_stale_version_is_optimistic_lock_failure() {
+        // 폼을 연 뒤 다른 곳에서 먼저 수정됨 -> 폼의 버전이 DB 버전과 다름
+        PostUpdateRequestDto request = PostUpdateRequestDto.builder().title("수정").content("내용").version(5L).build();
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> postService.update(postId, request, writer.getId()));
+    }
+
+    @Test
+    void update_of_missing_post_is_illegal_argument() {
+        PostUpdateRequestDto request = PostUpdateRequestDto.builder().title("수정").content("내용").version(0L).build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> postService.update(Long.MAX_VALUE, request, writer.getId()));
+    }
+}
@@ -0,0 +1,76 @@
+package my_board.demo.view;
+
+import my_board.demo.dto.PageNavigation;
+import my_board.demo.dto.PostSummaryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조각(posts/postListFragment) 응답 크기가 전체 페이지 수에 따라 늘지 않는지 확인
+ * 페이지 번호는 처음/마지막 + 현재 페이지 앞뒤만 그리므로 100쪽과 10000쪽의 차이는 숫자 자릿수 정도여야 함
+ * (렌더링 시간은 PostListRenderBenchmark에서 측정)
+ */
+class PostListFragmentSizeTest {
+    private final SpringTemplateEngine templateEngine = createTemplateEngine();
+    private final MockServletContext servletContext = new MockServletContext();
+    private final JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(servletContext);
+
+    @Test
+    void fragment_size_does_not_grow_with_total_pages() {
+        int hundredPages = renderFragmentBytes(20, 100);
+        int tenThousandPages = renderFragmentBytes(20, 10_000);
+
+        assertThat(tenThousandPages - hundredPages)
+                .as("fragment bytes: 100쪽=%d, 10000쪽=%d", hundredPages, tenThousandPages)
+                .isLessThan(256);
+    }
+
+    // 전체 totalPages쪽 중 가운데 페이지를 rows건으로 렌더링한 UTF-8 바이트 수
+    private int renderFragmentBytes(int rows, int totalPages) {
+        List<PostSummaryDto> content = new ArrayList<>(rows);
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            long id = 100_000L - i;
+            content.add(new PostSummaryDto(id, "게시글 제목 " + id, "작성자" + (i % 10), createdDate.minusMinutes(i)));
+        }
+        PageImpl<PostSummaryDto> postPage = new PageImpl<>(content,
+                PageRequest.of(totalPages / 2, rows, Sort.by(Sort.Direction.DESC, "id")), (long) totalPages * rows);
+
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/posts");
+        WebContext context = new WebContext(application.buildExchange(request, new MockHttpServletResponse()),
+                Locale.KOREA, Map.of("postPage", postPage, "pageNav", PageNavigation.of(postPage, 2)));
+        return templateEngine.process("posts/postListFragment", context).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // 앱과 같은 조건(templates/*.html, UTF-8)으로 엔진 생성
+    private static SpringTemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}